@@ -1,5 +1,6 @@
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.InputMismatchException;
@@ -10,6 +11,7 @@ import java.util.Scanner;
 
 import maze.controller.GUIGameController;
 import maze.controller.TextBasedGameController;
+import maze.model.AsciiMazeRenderer;
 import maze.model.FeatureType;
 import maze.model.GameWumpus;
 import maze.model.InterfaceGame;
@@ -174,6 +176,7 @@ public class Driver {
         maze = new MazeBuilder(row, col, mazeType, isWrapping, randomSeed)
                        .removeInsideWalls()
                        .addFeatures(featureMap)
+                       .renderTo(new AsciiMazeRenderer(), new OutputStreamWriter(System.out))
                        .build();
       } catch (IllegalArgumentException | IllegalStateException e) {
         System.out.println("Invalid arguments for game");
@@ -185,6 +188,7 @@ public class Driver {
                          .removeInsideWalls(remaining)
                          .removeWrappingWalls(countRemoveWrappingWalls)
                          .addFeatures(featureMap)
+                         .renderTo(new AsciiMazeRenderer(), new OutputStreamWriter(System.out))
                          .build();
         } catch (IllegalArgumentException | IllegalStateException e) {
           System.out.println("Invalid arguments for game");
@@ -194,6 +198,7 @@ public class Driver {
           maze = new MazeBuilder(row, col, mazeType, isWrapping, randomSeed)
                          .removeInsideWalls(remaining)
                          .addFeatures(featureMap)
+                         .renderTo(new AsciiMazeRenderer(), new OutputStreamWriter(System.out))
                          .build();
         } catch (IllegalArgumentException | IllegalStateException e) {
           System.out.println("Invalid arguments for game");
@@ -8,9 +8,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
 
 import javax.swing.JComboBox;
 import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 
 import maze.listener.ButtonListener;
 import maze.listener.KeyboardListener;
@@ -26,6 +29,7 @@ import maze.model.InterfaceGame;
 import maze.model.InterfaceMaze;
 import maze.model.InterfacePlayer;
 import maze.model.MazeCreator;
+import maze.model.MazePregenerator;
 import maze.model.Player;
 import maze.model.ThemeForest;
 import maze.model.ThemeMarine;
@@ -43,11 +47,17 @@ import maze.view.ThemeSelectorView;
  * Implementation of our controller.
  */
 public class GUIGameController {
+  //the next maze is predicted in the background so that a new game does not freeze the view
+  private static final MazePregenerator PREGENERATOR =
+          new MazePregenerator(new MazeCreator(), 1, 4);
   //  private IModel model;
   private IView gameInputView;
   private IThemeSelectorView themeSelectorView;
   private IMazeView mazeView;
   private InterfaceGame gameModel;
+  private InterfaceMaze currentMaze;
+  //true while a maze is generated off the event thread, further clicks on Start are ignored
+  private boolean generating;
   private int randomSeed;
   private IViewModel gameReadOnlyModel;
   private IGameInput gameInput;
@@ -348,6 +358,9 @@ public class GUIGameController {
       String message = "";
       IMazeCreator mazeCreator = new MazeCreator();
       InterfaceMaze maze;
+      if (generating) {
+        return;
+      }
 
       try {
         gameInput = gameInputView.getGameInput(); //read input from view
@@ -395,38 +408,74 @@ public class GUIGameController {
   }
 
   private void generateMaze() {
-    IMazeCreator mazeCreator = new MazeCreator();
-    InterfaceMaze maze = mazeCreator.generateMazeFromCorrectInput(gameInput);
-    if (maze != null) {
-      //generate the maze and navigate to the game play view
-      gameInputView.closeView(); //close the input view
+    IGameInput input = gameInput;
+    //every game is played on the maze of the requested seed, so New Game keeps the same maze
+    int seed = MazeCreator.DEFAULT_SEED;
 
-      List<InterfacePlayer> players = new ArrayList<>();
-
-      InterfacePlayer player1 = new Player(gameInput.getPlayer1Name());
-      player1.addArrow(gameInput.getPlayer1ArrowCount());
-      players.add(player1);
+    if (!SwingUtilities.isEventDispatchThread()) {
+      startGeneratedMaze(input, seed, PREGENERATOR.take(input, seed));
+      return;
+    }
+    //a maze which was not predicted is generated off the event thread, so the view stays live
+    generating = true;
+    new SwingWorker<InterfaceMaze, Void>() {
+      @Override
+      protected InterfaceMaze doInBackground() {
+        return PREGENERATOR.take(input, seed);
+      }
 
-      if (!gameInput.getPlayer2Name().equalsIgnoreCase("dummy")) {
-        InterfacePlayer player2 = new Player(gameInput.getPlayer2Name());
-        player2.addArrow(gameInput.getPlayer2ArrowCount());
-        players.add(player2);
+      @Override
+      protected void done() {
+        generating = false;
+        try {
+          startGeneratedMaze(input, seed, get());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+          gameInputView.setErrorMessage(gameInputView.getErrorMessageLabel(),
+                  "Maze could not be generated");
+        }
       }
+    }.execute();
+  }
+
+  private void startGeneratedMaze(IGameInput input, int seed, InterfaceMaze maze) {
+    if (maze != null) {
+      //the same configuration with the next seed is predicted, the maze of this seed is cached
+      PREGENERATOR.prefetch(input, seed + 1);
+      gameInput = input;
+      startGame(maze);
+    }
+  }
 
-      //gameModel = new GameWumpus(maze, players, gameInput.getThemeName(), randomSeed);
-      AbstractGame abstractGame = new GameWumpus(maze, players, gameInput.getThemeName(),
-              randomSeed);
-      gameModel = abstractGame; //read-write model
-      gameReadOnlyModel = abstractGame; //read-only model
+  private void startGame(InterfaceMaze maze) {
+    currentMaze = maze;
+    //generate the maze and navigate to the game play view
+    gameInputView.closeView(); //close the input view
 
-      setModel(gameModel);
-      mazeView = new MazeView("Here is your maze! Happy playing!", gameReadOnlyModel);
+    List<InterfacePlayer> players = new ArrayList<>();
 
-      mazeView.setUpGameView();
-      setMazeView(mazeView);
+    InterfacePlayer player1 = new Player(gameInput.getPlayer1Name());
+    player1.addArrow(gameInput.getPlayer1ArrowCount());
+    players.add(player1);
 
+    if (!gameInput.getPlayer2Name().equalsIgnoreCase("dummy")) {
+      InterfacePlayer player2 = new Player(gameInput.getPlayer2Name());
+      player2.addArrow(gameInput.getPlayer2ArrowCount());
+      players.add(player2);
     }
 
+    //gameModel = new GameWumpus(maze, players, gameInput.getThemeName(), randomSeed);
+    AbstractGame abstractGame = new GameWumpus(maze, players, gameInput.getThemeName(),
+            randomSeed);
+    gameModel = abstractGame; //read-write model
+    gameReadOnlyModel = abstractGame; //read-only model
+
+    setModel(gameModel);
+    mazeView = new MazeView("Here is your maze! Happy playing!", gameReadOnlyModel);
+
+    mazeView.setUpGameView();
+    setMazeView(mazeView);
   }
 
   class GenerateNewGameView implements Runnable {
@@ -448,7 +497,8 @@ public class GUIGameController {
     @Override
     public void run() {
       mazeView.closeView();
-      generateMaze();
+      //games only read the maze, so the restarted game shares it with a session of its own
+      startGame(currentMaze);
     }
   }
 
@@ -1,7 +1,8 @@
 package maze.model;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -12,17 +13,27 @@ import java.util.Set;
  */
 public abstract class AbstractGame implements InterfaceGame, IViewModel {
   private static String ICON_PATH = "res/icons/";
+  //order of the doors in the names of the room icons
+  private static final Direction[] ICON_DIRECTIONS = {Direction.NORTH, Direction.SOUTH,
+                                                      Direction.EAST, Direction.WEST};
   private InterfaceMaze maze;
+  private GameSession session;
   private List<InterfacePlayer> players;
   private int activePlayerNumber;
   private int playerNumberLastMoved;
   private ThemeName themeName;
   private IThemeFeatures theme;
   private String notificationMessage;
+  private BitSet visitedTunnels;
   private Set<Integer> visitedTunnelsRoomNumbers;
-  private Set<Integer> roomNumbersToUpdate;
-  private Set<Integer> batRoomsVisited;
+  private RoomJournal roomsToUpdate;
   private String errorMessage = "";
+  //icon paths are built once for the theme of the game, so redrawing a room builds no strings
+  private String[] roomIconPaths;
+  private String themeIconPath;
+  private String[] playerIconPaths;
+  private final Map<SmellName, String> smellIconPaths = new EnumMap<>(SmellName.class);
+  private final Map<FeatureType, String> featureIconPaths = new EnumMap<>(FeatureType.class);
 
   /**
    * Constructor for Abstract game class.
@@ -39,12 +50,24 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
       throw new IllegalArgumentException("Incorrect start");
     }
 
+    if (!maze.getRoomById(start).isCave()) {
+      throw new IllegalArgumentException("Player cannot start in a tunnel");
+    }
+
     this.maze = maze;
-    this.maze.assignPlayer(player, start);
+    this.session = new GameSession(maze);
+    //the player is placed by the game, so the shared maze is left untouched
+    player.setRoom(maze.getRoomById(start));
+    if (session.hasFeature(start, FeatureType.GOLD)) {
+      player.collectGold();
+      //the gold is taken out of the cave for this game only
+      session.removeFeature(start, FeatureType.GOLD);
+    }
     this.activePlayerNumber = 1;
     this.playerNumberLastMoved = 1;
-    this.roomNumbersToUpdate = new HashSet<>();
-    this.visitedTunnelsRoomNumbers = new HashSet<>();
+    this.visitedTunnels = new BitSet(maze.getCountRooms());
+    this.visitedTunnelsRoomNumbers = new RoomIdSet(visitedTunnels);
+    this.roomsToUpdate = new RoomJournal(maze.getCountRooms());
   }
 
 
@@ -68,11 +91,16 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
     this.players = players;
     this.maze = maze;
     this.themeName = themeName;
+    this.session = new GameSession(maze);
     this.maze.assignMultiplePlayersRandomStartPositions(players, randomSeed);
+    for (InterfacePlayer player : players) {
+      session.setVisited(player.getRoom().getRoomId());
+    }
     this.activePlayerNumber = 1;
     this.playerNumberLastMoved = 1;
-    this.roomNumbersToUpdate = new HashSet<>();
-    this.visitedTunnelsRoomNumbers = new HashSet<>();
+    this.visitedTunnels = new BitSet(maze.getCountRooms());
+    this.visitedTunnelsRoomNumbers = new RoomIdSet(visitedTunnels);
+    this.roomsToUpdate = new RoomJournal(maze.getCountRooms());
 
     if (themeName == ThemeName.HUNT_THE_WUMPUS) {
       theme = new ThemeWumpus();
@@ -111,72 +139,75 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
     return visitedTunnelsRoomNumbers;
   }
 
-  public Set<Integer> getBatRoomsVisited() {
-    return batRoomsVisited;
+  /**
+   * Adds a room whose icon has changed to the rooms to be updated on the maze view.
+   *
+   * @param roomId room ID
+   */
+  protected void addRoomToUpdate(int roomId) {
+    roomsToUpdate.add(roomId);
+  }
+
+  /**
+   * Returns the room reached by moving from a room in a direction, without creating the map of
+   * all valid positions. By default the player moves to the neighbouring room through an open
+   * wall; games moving along other rooms in {@link #getValidPositions} override this.
+   *
+   * @param roomId    room ID of the room the player moves from
+   * @param direction direction of the move
+   * @return room ID of the room reached, or -1 if the player cannot move in that direction
+   */
+  protected int getRoomIdInDirection(int roomId, Direction direction) {
+    WallTopology topology = maze.getWallTopology();
+    return topology.isOpen(roomId, direction) ? topology.getNeighbour(roomId, direction) : -1;
   }
 
   @Override
   public void movePlayer(Direction direction, Random random) {
-    batRoomsVisited = new HashSet<>();
     setErrorMessage("");
     InterfacePlayer playerMoving = getPlayerById(getActivePlayerNumber());
     int oldRoom = playerMoving.getRoom().getRoomId();
 
-    Room originalRoom = this.getPlayerById(getActivePlayerNumber()).getRoom();
-    Map<Room, Direction> validNextPositions =
-            getValidPositions(this.getPlayerById(getActivePlayerNumber()).getRoom());
-    for (Room nextRoomPosition : validNextPositions.keySet()) {
-      if (validNextPositions.get(nextRoomPosition).equals(direction)) {
-        for (Room room : this.getMaze().getRooms()) {
-          if (room == nextRoomPosition) {
-            this.getPlayerById(getActivePlayerNumber()).setRoom(room);
-            room.setVisited();
-            enterRoom(nextRoomPosition, random);
-            if (getAllPlayers().size() > 1) {
-              shiftTurnToNextPlayer();
-            }
-            int newRoom = playerMoving.getRoom().getRoomId();
-            updateRooms(oldRoom, newRoom, direction);
-          }
-        }
+    int nextRoom = getRoomIdInDirection(oldRoom, direction);
+    if (nextRoom >= 0) {
+      Room room = maze.getRoomById(nextRoom);
+      playerMoving.setRoom(room);
+      session.setVisited(nextRoom);
+      enterRoom(room, random);
+      if (getAllPlayers().size() > 1) {
+        shiftTurnToNextPlayer();
       }
+      int newRoom = playerMoving.getRoom().getRoomId();
+      updateRooms(oldRoom, newRoom, direction);
     }
   }
 
-  private Set<Integer> enterTunnels(Room startingRoom, Direction direction) {
-    List<Room> connectingTunnels = startingRoom.getConnectingTunnels().get(direction);
-    Set<Integer> newlyExploredTunnels = new HashSet<>();
-
-    if (connectingTunnels != null && connectingTunnels.size() != 0) {
-      for (Room tunnel : connectingTunnels) {
-        tunnel.setVisited();
-
-        int tunnelId = tunnel.getRoomId();
-        if (!visitedTunnelsRoomNumbers.contains(tunnelId)) {
-          visitedTunnelsRoomNumbers.add(tunnelId);
-          newlyExploredTunnels.add(tunnelId);
-        }
+  private void enterTunnels(int startingRoom, Direction direction) {
+    CorridorGraph corridorGraph = maze.getCorridorGraph();
+    int countTunnels = corridorGraph.getCountTunnels(startingRoom, direction);
+    for (int i = 0; i < countTunnels; i++) {
+      int tunnelId = corridorGraph.getTunnelId(startingRoom, direction, i);
+      session.setVisited(tunnelId);
+      if (!visitedTunnels.get(tunnelId)) {
+        visitedTunnels.set(tunnelId);
+        roomsToUpdate.add(tunnelId);
       }
     }
-    return newlyExploredTunnels;
   }
 
   private void updateRooms(int oldRoom, int newRoom, Direction direction) {
-    roomNumbersToUpdate = new HashSet<>();
-    roomNumbersToUpdate.addAll(batRoomsVisited);
     if (oldRoom != newRoom) {
-      roomNumbersToUpdate.add(oldRoom);
-      roomNumbersToUpdate.add(newRoom);
-      Set<Integer> newTunnels = enterTunnels(maze.getRoomById(oldRoom, maze.getRooms()), direction);
-      roomNumbersToUpdate.addAll(newTunnels);
+      roomsToUpdate.add(oldRoom);
+      roomsToUpdate.add(newRoom);
+      enterTunnels(oldRoom, direction);
     } else {
       setErrorMessage("No room in direction");
     }
   }
 
   @Override
-  public Set<Integer> getRoomNumbersToUpdate() {
-    return roomNumbersToUpdate;
+  public int pollRoomToUpdate() {
+    return roomsToUpdate.poll();
   }
 
   @Override
@@ -216,6 +247,15 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
     return maze;
   }
 
+  /**
+   * Returns the state of this game kept apart from the maze, which may be shared with other games.
+   *
+   * @return session of this game
+   */
+  protected GameSession getSession() {
+    return session;
+  }
+
   /**
    * Player enter the room and necessary action is performed depending on the feature of the room.
    * @param room to be entered
@@ -235,7 +275,13 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
 
   @Override
   public CurrentPlayerInfo printPlayerStatus(int playerNumber) {
-    return getPlayerById(playerNumber).getPlayerInfo();
+    CurrentPlayerInfo playerInfo = getPlayerById(playerNumber).getPlayerInfo();
+    Room room = playerInfo.getRoom();
+    if (room == null || !room.isCave()) {
+      return playerInfo;
+    }
+    return new CurrentPlayerInfo(playerInfo.getGold(), playerInfo.getName(), room,
+            playerInfo.getArrowCount(), session.getSmell(room.getRoomId()));
   }
 
   @Override
@@ -265,7 +311,7 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
   private List<Room> getAllVisitedRooms() {
     List<Room> visited = new ArrayList<>();
     for (Room room : maze.getRooms()) {
-      if (room.isVisited()) {
+      if (session.isVisited(room.getRoomId())) {
         visited.add(room);
       }
     }
@@ -274,13 +320,12 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
 
   @Override
   public boolean isVisited(int roomId) {
-    Room room = maze.getRoomById(roomId, maze.getRooms());
-    return room.isVisited();
+    return session.isVisited(roomId);
   }
 
   @Override
   public boolean isCave(int roomId) {
-    return maze.getRoomById(roomId, maze.getRooms()).isCave();
+    return maze.getRoomById(roomId).isCave();
   }
 
   @Override
@@ -290,19 +335,20 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
 
   @Override
   public Map<FeatureType, Boolean> getFeaturesOfVisitedRoom(int roomId) {
-    Room room = maze.getRoomById(roomId, maze.getRooms());
-    if (!room.isVisited()) {
+    if (!session.isVisited(roomId)) {
       throw new IllegalArgumentException("The room is still not visited and the view cannot get "
                                                  + "info about the features in the room");
     }
 
-    return room.getFeatures();
+    return session.getFeatures(roomId);
   }
 
   @Override
   public Set<SmellName> getSmellsOfVisitedRoom(int roomId) {
-    Room room = maze.getRoomById(roomId, maze.getRooms());
-    return room.getSmellIconSet();
+    if (!maze.getRoomById(roomId).isCave()) {
+      throw new IllegalArgumentException("No smells in tunnel");
+    }
+    return session.getSmell(roomId).getSmellIconSet();
   }
 
   protected String surroundWithBasePath(String gameObjectName) {
@@ -316,27 +362,44 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
 
   @Override
   public String getImagePathForRoom(int roomId) {
-    Room room = maze.getRoomById(roomId, maze.getRooms());
-    StringBuilder imagePath = new StringBuilder();
-    imagePath.append(ICON_PATH);
-    imagePath.append(getGameTheme().toString().toLowerCase()).append('/');
-    if (room.isVisited()) {
-      Direction[] priority = {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
-
-      for (Direction direction : priority) {
-        if (room.getPossibleMoves().keySet().contains(direction)) {
-          imagePath.append(direction.toString().substring(0, 1));
+    if (roomIconPaths == null) {
+      roomIconPaths = createRoomIconPaths();
+    }
+    if (!session.isVisited(roomId)) {
+      return roomIconPaths[roomIconPaths.length - 1];
+    }
+    WallTopology topology = maze.getWallTopology();
+    int doors = 0;
+    for (int i = 0; i < ICON_DIRECTIONS.length; i++) {
+      if (topology.isOpen(roomId, ICON_DIRECTIONS[i])) {
+        doors |= 1 << i;
+      }
+    }
+    return roomIconPaths[doors];
+  }
+
+  // Icon paths of the visited rooms by their doors, bit i set for a door in ICON_DIRECTIONS[i],
+  // followed by the icon path of the rooms not visited yet.
+  private String[] createRoomIconPaths() {
+    String[] iconPaths = new String[(1 << ICON_DIRECTIONS.length) + 1];
+    for (int doors = 0; doors < iconPaths.length - 1; doors++) {
+      StringBuilder name = new StringBuilder();
+      for (int i = 0; i < ICON_DIRECTIONS.length; i++) {
+        if ((doors & (1 << i)) != 0) {
+          name.append(ICON_DIRECTIONS[i].toString().charAt(0));
         }
       }
-    } else {
-      imagePath.append("black");
+      iconPaths[doors] = surroundWithBasePath(name.toString());
     }
-    imagePath.append(".png");
-    return imagePath.toString();
+    iconPaths[iconPaths.length - 1] = surroundWithBasePath("black");
+    return iconPaths;
   }
 
   public String getImagePathForTheme() {
-    return surroundWithBasePath("background");
+    if (themeIconPath == null) {
+      themeIconPath = surroundWithBasePath("background");
+    }
+    return themeIconPath;
   }
 
   @Override
@@ -344,7 +407,12 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
     if (smellName != SmellName.breeze && smellName != SmellName.stench) {
       throw new IllegalArgumentException("Feature currently not supported");
     }
-    return surroundWithBasePath(smellName.toString().toLowerCase());
+    String iconPath = smellIconPaths.get(smellName);
+    if (iconPath == null) {
+      iconPath = surroundWithBasePath(smellName.toString().toLowerCase());
+      smellIconPaths.put(smellName, iconPath);
+    }
+    return iconPath;
   }
 
   @Override
@@ -353,7 +421,12 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
                 && featureType != FeatureType.PIT) {
       throw new IllegalArgumentException("Feature currently not supported");
     }
-    return surroundWithBasePath(featureType.toString().toLowerCase());
+    String iconPath = featureIconPaths.get(featureType);
+    if (iconPath == null) {
+      iconPath = surroundWithBasePath(featureType.toString().toLowerCase());
+      featureIconPaths.put(featureType, iconPath);
+    }
+    return iconPath;
   }
 
   @Override
@@ -361,7 +434,13 @@ public abstract class AbstractGame implements InterfaceGame, IViewModel {
     if (playerNumber > getAllPlayers().size()) {
       throw new IllegalArgumentException("Player not in the game, incorrect player number");
     }
-    return surroundWithBasePath("player" + playerNumber);
+    if (playerIconPaths == null) {
+      playerIconPaths = new String[getAllPlayers().size() + 1];
+    }
+    if (playerIconPaths[playerNumber] == null) {
+      playerIconPaths[playerNumber] = surroundWithBasePath("player" + playerNumber);
+    }
+    return playerIconPaths[playerNumber];
   }
 
   @Override
@@ -0,0 +1,44 @@
+package maze.model;
+
+/**
+ * Abstract generator containing the grid helpers shared by the different generation algorithms.
+ */
+public abstract class AbstractMazeGenerator implements IMazeGenerator {
+  protected static final Direction[] DIRECTIONS = Direction.values();
+
+  /**
+   * Returns whether a room has a neighbour in the given direction. Wrapping walls are only
+   * considered when the grid is wide (or tall) enough for them to lead to a room that is not
+   * already an inside neighbour.
+   *
+   * @param topology  wall topology of the maze
+   * @param room      room ID
+   * @param direction direction of the neighbour
+   * @param wrapping  true if wrapping walls may be demolished
+   * @return true if there is a wall in that direction which can be demolished
+   */
+  protected boolean hasNeighbour(WallTopology topology, int room, Direction direction,
+                                 boolean wrapping) {
+    return topology.getGrid(wrapping).hasNeighbour(room, direction);
+  }
+
+  /**
+   * Collects the directions in which a room has a neighbour.
+   *
+   * @param topology   wall topology of the maze
+   * @param room       room ID
+   * @param wrapping   true if wrapping walls may be demolished
+   * @param directions buffer of at least four entries receiving the directions
+   * @return number of directions written to the buffer
+   */
+  protected int getNeighbourDirections(WallTopology topology, int room, boolean wrapping,
+                                       Direction[] directions) {
+    int count = 0;
+    for (Direction direction : DIRECTIONS) {
+      if (hasNeighbour(topology, room, direction, wrapping)) {
+        directions[count++] = direction;
+      }
+    }
+    return count;
+  }
+}
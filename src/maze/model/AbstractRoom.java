@@ -1,16 +1,15 @@
 package maze.model;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Class representing a room in the maze.
  */
-public abstract class AbstractRoom implements Room {
+public abstract class AbstractRoom implements LinkableRoom {
   private int roomId;
   private Map<Direction, Room> possibleMoves;
-  private boolean isVisited;
 
   /**
    * Constructor for Room.
@@ -19,18 +18,7 @@ public abstract class AbstractRoom implements Room {
    */
   public AbstractRoom(int roomId) {
     this.roomId = roomId;
-    possibleMoves = new HashMap<>();
-    isVisited = false;
-  }
-
-  @Override
-  public void setVisited() {
-    isVisited = true;
-  }
-
-  @Override
-  public boolean isVisited() {
-    return isVisited;
+    possibleMoves = new EnumMap<>(Direction.class);
   }
 
   @Override
@@ -65,7 +53,8 @@ public abstract class AbstractRoom implements Room {
 
   @Override
   public void setPossibleMoves(Map<Direction, Room> possibleMoves) {
-    this.possibleMoves = possibleMoves;
+    this.possibleMoves = new EnumMap<>(Direction.class);
+    this.possibleMoves.putAll(possibleMoves);
   }
 
   @Override
@@ -95,6 +84,19 @@ public abstract class AbstractRoom implements Room {
     }
   }
 
+  @Override
+  public void removeFeature(FeatureType featureType) {
+    if (!this.isCave()) {
+      throw new IllegalArgumentException("Room is a tunnel, not a cave and features cannot "
+                                                 + "be removed");
+    }
+  }
+
+  @Override
+  public boolean hasFeature(FeatureType featureType) {
+    return false;
+  }
+
   @Override
   public Map<FeatureType, Boolean> getFeatures() {
     if (!this.isCave()) {
@@ -121,39 +123,47 @@ public abstract class AbstractRoom implements Room {
     possibleMoves.put(direction, room);
   }
 
-  Direction getInverseDirection(Direction direction) {
-    HashMap<Direction, Direction> complimentaryDirections = new HashMap<>();
-    complimentaryDirections.put(Direction.EAST, Direction.WEST);
-    complimentaryDirections.put(Direction.WEST, Direction.EAST);
-    complimentaryDirections.put(Direction.NORTH, Direction.SOUTH);
-    complimentaryDirections.put(Direction.SOUTH, Direction.NORTH);
-    return complimentaryDirections.get(direction);
-  }
-
   @Override
   public Room findCaveAtDistance(Direction inverseIncomingDirection, int distanceForCave) {
-    if (this.isCave()) {
-      if (distanceForCave == 1) {
-        return (Cave) this;
-      } else {
-        if (getPossibleMoves().containsKey(inverseIncomingDirection)) {
-          distanceForCave--;
-          return getPossibleMoves().get(inverseIncomingDirection)
-                         .findCaveAtDistance(inverseIncomingDirection, distanceForCave);
-        } else {
-          //throw new IllegalArgumentException("Wall encountered on straight path");
+    if (distanceForCave < 1) {
+      return null;
+    }
+
+    Room room = this;
+    Direction direction = inverseIncomingDirection;
+    while (true) {
+      if (room.isCave()) {
+        if (distanceForCave == 1) {
+          return room;
+        }
+        if (!room.getPossibleMoves().containsKey(direction)) {
+          //wall encountered on straight path
           return null;
         }
+        distanceForCave--;
+        room = room.getPossibleMoves().get(direction);
+      } else {
+        direction = getWayOut(room, direction);
+        room = room.getPossibleMoves().get(direction);
       }
-    } else {
-      Direction incoming = getInverseDirection(inverseIncomingDirection);
-      for (Direction direction : getPossibleMoves().keySet()) { //check between the 2 possible dirn
-        if (direction != incoming) { //take the outgoing direction
-          return getPossibleMoves().get(direction).findCaveAtDistance(direction, distanceForCave);
-        }
+    }
+  }
+
+  /**
+   * Returns the direction in which a tunnel is left when it was entered moving in a direction.
+   *
+   * @param tunnel    tunnel being passed
+   * @param direction direction of the move into the tunnel
+   * @return direction of the other door of the tunnel
+   */
+  Direction getWayOut(Room tunnel, Direction direction) {
+    Direction incoming = direction.opposite();
+    for (Direction out : tunnel.getPossibleMoves().keySet()) { //check between the 2 possible dirn
+      if (out != incoming) { //take the outgoing direction
+        return out;
       }
-      throw new IllegalArgumentException("Maze incorrectly formed, tunnel cannot find a door out");
     }
+    throw new IllegalArgumentException("Maze incorrectly formed, tunnel cannot find a door out");
   }
 
 }
@@ -0,0 +1,46 @@
+package maze.model;
+
+import java.util.Random;
+
+/**
+ * Generator that performs a random walk over the grid and demolishes the wall whenever the walk
+ * enters a room for the first time, as in the Aldous-Broder algorithm. Like Wilson's algorithm it
+ * picks every spanning tree with equal probability, but it is the slowest of the generators as
+ * the walk keeps revisiting rooms until the last one has been found.
+ */
+public class AldousBroderGenerator extends AbstractMazeGenerator {
+
+  @Override
+  public void generate(WallTopology topology, boolean wrapping, Random random) {
+    int countRooms = topology.getCountRooms();
+    if (countRooms == 0) {
+      return;
+    }
+    boolean[] visited = new boolean[countRooms];
+    Direction[] directions = new Direction[DIRECTIONS.length];
+
+    int room = random.nextInt(countRooms);
+    visited[room] = true;
+    int remaining = countRooms - 1;
+
+    while (remaining > 0) {
+      int countDirections = getNeighbourDirections(topology, room, wrapping, directions);
+      if (countDirections == 0) {
+        throw new IllegalStateException("Room " + room + " has no neighbours");
+      }
+      Direction direction = directions[random.nextInt(countDirections)];
+      int next = topology.getNeighbour(room, direction);
+      if (!visited[next]) {
+        topology.open(room, direction);
+        visited[next] = true;
+        remaining--;
+      }
+      room = next;
+    }
+  }
+
+  @Override
+  public GeneratorType getGeneratorType() {
+    return GeneratorType.ALDOUS_BRODER;
+  }
+}
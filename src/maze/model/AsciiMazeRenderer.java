@@ -0,0 +1,67 @@
+package maze.model;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renders a maze with plain ASCII characters, printing the ID of every room between "|" and "__"
+ * walls followed by the caves having each feature. Rooms are separated by tabs.
+ */
+public class AsciiMazeRenderer implements IMazeRenderer {
+
+  @Override
+  public void render(InterfaceMaze maze, Writer writer) throws IOException {
+    WallTopology topology = maze.getWallTopology();
+    int row = topology.getRow();
+    int col = topology.getCol();
+
+    writer.write("Maze is wrapping " + maze.getWrappingFlag() + "\n");
+    writer.write("Rooms look like:\n");
+    writeHorizontalBoundary(topology, writer);
+    for (int i = 0; i < topology.getCountRooms(); i = i + col) {
+      writeVerticalWalls(topology, i, writer);
+      if (i >= (row - 1) * col) { //the last row
+        writeHorizontalBoundary(topology, writer);
+      } else {
+        writeHorizontalWalls(topology, i, writer);
+      }
+    }
+
+    for (FeatureType featureType : FeatureType.values()) {
+      if (maze.getCavesWithFeature(featureType).size() != 0) {
+        writer.write("Rooms with " + featureType.toString() + "\n");
+        for (Room room : maze.getCavesWithFeature(featureType)) {
+          writer.write(room.getRoomId() + " ");
+        }
+        writer.write("\n");
+      }
+    }
+    writer.write("\n");
+  }
+
+  private void writeHorizontalWalls(WallTopology topology, int index, Writer writer)
+          throws IOException {
+    for (int count = index; count < index + topology.getCol(); count++) {
+      writer.write(topology.isOpen(count, Direction.SOUTH) ? "\t" : "__\t");
+    }
+    writer.write("\n");
+  }
+
+  private void writeHorizontalBoundary(WallTopology topology, Writer writer) throws IOException {
+    for (int count = 0; count < topology.getCol(); count++) {
+      writer.write(topology.isOpen(count, Direction.NORTH) ? "\t" : "__\t");
+    }
+    writer.write("\n");
+  }
+
+  private void writeVerticalWalls(WallTopology topology, int index, Writer writer)
+          throws IOException {
+    int col = topology.getCol();
+    writer.write(topology.isOpen(index, Direction.WEST) ? " " : "|");
+    for (int count = index; count < index + col; count++) {
+      writer.write(count + "\t"); //print room number
+      writer.write(topology.isOpen(count, Direction.EAST) ? " " : "|");
+    }
+    writer.write("\n");
+  }
+}
@@ -1,8 +1,7 @@
 package maze.model;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -12,10 +11,14 @@ import java.util.Set;
  */
 public class Cave extends AbstractRoom {
   private String caveId;
-  //Cave could have such as thief, gold, wumpus, bats, or pit
-  private Map<FeatureType, Boolean> features;
+  //Cave could have such as thief, gold, wumpus, bats, or pit, bit 1 << ordinal() for each feature
+  private int features;
+  //smelling features of the adjacent caves, kept up to date whenever they change
+  private int smellMask;
   private Map<Direction, Room> adjacentCaves;
   private Map<Direction, List<Room>> connectingTunnels;
+  private CorridorGraph corridors;
+  private RoomIndex roomIndex;
 
   /**
    * Constructor for the cave.
@@ -26,14 +29,38 @@ public class Cave extends AbstractRoom {
   public Cave(int roomId, String caveId) {
     super(roomId);
     this.caveId = caveId;
-    this.features = new HashMap<>();
-    this.features.put(FeatureType.WUMPUS, false);
-    this.features.put(FeatureType.BAT, false);
-    this.features.put(FeatureType.PIT, false);
-    this.features.put(FeatureType.GOLD, false);
-    this.features.put(FeatureType.THIEF, false);
-    adjacentCaves = new HashMap<>();
-    connectingTunnels = new HashMap<>();
+    adjacentCaves = new EnumMap<>(Direction.class);
+    connectingTunnels = new EnumMap<>(Direction.class);
+  }
+
+  /**
+   * Reads the adjacent caves and connecting tunnels of this cave from the corridor graph of the
+   * maze.
+   *
+   * @param corridors corridor graph of the maze containing this cave
+   */
+  void setCorridorGraph(CorridorGraph corridors) {
+    this.corridors = corridors;
+    adjacentCaves = new EnumMap<>(Direction.class);
+    connectingTunnels = new EnumMap<>(Direction.class);
+    for (Direction direction : getPossibleMoves().keySet()) {
+      adjacentCaves.put(direction, corridors.getAdjacentCave(getRoomId(), direction));
+      List<Room> tunnels = corridors.getConnectingTunnels(getRoomId(), direction);
+      if (tunnels.size() != 0) {
+        connectingTunnels.put(direction, tunnels);
+      }
+    }
+    updateSmell();
+  }
+
+  /**
+   * Links this cave to the room index of the maze, which is told about every feature added to or
+   * removed from the cave from then on.
+   *
+   * @param roomIndex room index of the maze containing this cave
+   */
+  void setRoomIndex(RoomIndex roomIndex) {
+    this.roomIndex = roomIndex;
   }
 
   @Override
@@ -44,6 +71,7 @@ public class Cave extends AbstractRoom {
   @Override
   public void addAdjacentCave(Direction direction, Room cave) {
     this.adjacentCaves.put(direction, cave);
+    updateSmell();
   }
 
   @Override
@@ -60,15 +88,64 @@ public class Cave extends AbstractRoom {
     return connectingTunnels;
   }
 
+  /**
+   * Returns a read-only view of the features of the cave. The view always lists the wumpus, bats,
+   * pit, gold and thief, mapped to false if the cave does not have them, and every other feature
+   * the cave has.
+   *
+   * @return map from the features to whether the cave has them
+   */
   @Override
   public Map<FeatureType, Boolean> getFeatures() {
-    return features;
+    return new FeatureView(() -> features);
   }
 
+  @Override
+  public boolean hasFeature(FeatureType featureType) {
+    return (features & bit(featureType)) != 0;
+  }
 
   @Override
   public void addNewFeature(FeatureType featureType) {
-    features.put(featureType, true);
+    features |= bit(featureType);
+    if (roomIndex != null) {
+      roomIndex.updateFeature(getRoomId(), featureType, true);
+    }
+    updateAdjacentSmells(featureType);
+  }
+
+  @Override
+  public void removeFeature(FeatureType featureType) {
+    features &= ~bit(featureType);
+    if (roomIndex != null) {
+      roomIndex.updateFeature(getRoomId(), featureType, false);
+    }
+    updateAdjacentSmells(featureType);
+  }
+
+  // Only the caves next to this one can smell its features, so only their smells are updated.
+  private void updateAdjacentSmells(FeatureType featureType) {
+    if ((bit(featureType) & Smell.SMELLING_FEATURES) != 0) {
+      for (Room cave : adjacentCaves.values()) {
+        if (cave instanceof Cave) {
+          ((Cave) cave).updateSmell();
+        }
+      }
+    }
+  }
+
+  private void updateSmell() {
+    int mask = 0;
+    for (Room cave : adjacentCaves.values()) {
+      if (cave instanceof Cave) {
+        mask |= ((Cave) cave).features;
+      }
+    }
+    smellMask = mask & Smell.SMELLING_FEATURES;
+  }
+
+  private static int bit(FeatureType featureType) {
+    return FeatureView.bit(featureType);
   }
 
   @Override
@@ -81,28 +158,29 @@ public class Cave extends AbstractRoom {
     return true;
   }
 
+  /**
+   * Returns the smell of the wumpus and the pits in the adjacent caves. The smell is shared with
+   * every other cave smelling the same features and must not be changed.
+   *
+   * @return smell details of the cave
+   */
   @Override
   public Smell getSmellDetails() {
-    Set<FeatureType> adjFeatures = new HashSet<>();
-    Map<Direction, Room> adjCaves = getAdjacentCaves();
-    for (Direction direction : adjCaves.keySet()) {
-      if (adjCaves.get(direction).getFeatures().get(FeatureType.PIT)) {
-        adjFeatures.add(FeatureType.PIT);
-      }
-      //      if (adjCaves.get(direction).getFeatures().get(FeatureType.BAT)) {
-      //        adjFeatures.add(FeatureType.BAT);
-      //      }
-      if (adjCaves.get(direction).getFeatures().get(FeatureType.WUMPUS)) {
-        adjFeatures.add(FeatureType.WUMPUS);
-      }
-    }
-    return new Smell(adjFeatures);
+    return Smell.of(smellMask);
   }
 
   public Set<SmellName> getSmellIconSet() {
     return getSmellDetails().getSmellIconSet();
   }
 
+  @Override
+  public Room findCaveAtDistance(Direction inverseIncomingDirection, int distanceForCave) {
+    if (corridors == null) {
+      return super.findCaveAtDistance(inverseIncomingDirection, distanceForCave);
+    }
+    return corridors.getCaveAtDistance(getRoomId(), inverseIncomingDirection, distanceForCave);
+  }
+
   @Override
   public List<Room> findAllConnectingTunnels(Direction direction) {
     return new ArrayList<>();
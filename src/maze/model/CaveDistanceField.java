@@ -0,0 +1,159 @@
+package maze.model;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distances between the caves of a maze, counted in moves from cave to adjacent cave as defined by
+ * the corridor graph. A distance field holds the distance from every cave to the nearest of a set
+ * of source caves, such as all pits or the wumpus, found by one breadth-first search started from
+ * all sources at once. Every search takes time linear in the number of caves and allocates nothing
+ * beyond the buffers it is handed.
+ *
+ * <p>Fields are indexed by room ID. Tunnels and caves which cannot reach any source have the
+ * distance {@link #UNREACHABLE}. The fields of the features of the maze are cached and computed
+ * again only once the corridor graph has been rebuilt or the room index reports a change to the
+ * caves with the feature.
+ */
+public class CaveDistanceField {
+  public static final int UNREACHABLE = -1;
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final InterfaceMaze maze;
+  private CorridorGraph graph;
+  //room ID of every cave, by cave number, and cave number of every room, or -1 for a tunnel
+  private int[] caveIds;
+  private int[] caveNumbers;
+  //cave number of the adjacent cave for every cave and direction, or -1 for a wall
+  private int[] adjacent;
+  private int[] queue;
+  //version of the caves with each feature the cached field was computed for, by feature ordinal
+  private final int[] featureVersions;
+  private final Map<FeatureType, int[]> featureDistances;
+
+  /**
+   * Constructor for the distance fields of a maze.
+   *
+   * @param maze maze whose caves are measured
+   * @throws IllegalArgumentException if the maze is null
+   */
+  public CaveDistanceField(InterfaceMaze maze) {
+    if (maze == null) {
+      throw new IllegalArgumentException("No maze provided");
+    }
+    this.maze = maze;
+    this.featureVersions = new int[FeatureType.values().length];
+    this.featureDistances = new EnumMap<>(FeatureType.class);
+  }
+
+  /**
+   * Computes the distance from every cave to the nearest source cave.
+   *
+   * @param sourceIds room IDs of the source caves
+   * @param distances buffer of one entry per room to fill, or null to allocate a new one
+   * @return the filled buffer
+   * @throws IllegalArgumentException if the buffer has the wrong size or a source is not a cave
+   */
+  public synchronized int[] computeDistances(int[] sourceIds, int[] distances) {
+    update();
+    if (distances == null) {
+      distances = new int[maze.getCountRooms()];
+    } else if (distances.length != maze.getCountRooms()) {
+      throw new IllegalArgumentException("Buffer should hold one distance per room");
+    }
+    Arrays.fill(distances, UNREACHABLE);
+
+    int tail = 0;
+    for (int sourceId : sourceIds) {
+      if (sourceId < 0 || sourceId >= distances.length || caveNumbers[sourceId] < 0) {
+        throw new IllegalArgumentException("Source " + sourceId + " is not a cave");
+      }
+      if (distances[sourceId] != 0) {
+        distances[sourceId] = 0;
+        queue[tail++] = caveNumbers[sourceId];
+      }
+    }
+    for (int head = 0; head < tail; head++) {
+      int caveNumber = queue[head];
+      int next = distances[caveIds[caveNumber]] + 1;
+      for (int slot = caveNumber * DIRECTIONS.length; slot < (caveNumber + 1) * DIRECTIONS.length;
+           slot++) {
+        int neighbour = adjacent[slot];
+        if (neighbour >= 0 && distances[caveIds[neighbour]] == UNREACHABLE) {
+          distances[caveIds[neighbour]] = next;
+          queue[tail++] = neighbour;
+        }
+      }
+    }
+    return distances;
+  }
+
+  /**
+   * Returns the distance from every cave to the nearest cave with a feature. The field is shared
+   * by all callers and must not be modified. It is updated in place once the caves with the
+   * feature change.
+   *
+   * @param featureType feature of the source caves
+   * @return distances indexed by room ID
+   */
+  public synchronized int[] getDistancesToFeature(FeatureType featureType) {
+    update();
+    int version = graph.getRoomIndex().getFeatureVersion(featureType);
+    int[] distances = featureDistances.get(featureType);
+    if (distances == null || featureVersions[featureType.ordinal()] != version) {
+      List<Room> caves = maze.getCavesWithFeature(featureType);
+      int[] sourceIds = new int[caves.size()];
+      for (int i = 0; i < sourceIds.length; i++) {
+        sourceIds[i] = caves.get(i).getRoomId();
+      }
+      distances = computeDistances(sourceIds, distances);
+      featureVersions[featureType.ordinal()] = version;
+      featureDistances.put(featureType, distances);
+    }
+    return distances;
+  }
+
+  /**
+   * Returns the distance from a room to the nearest cave with a feature.
+   *
+   * @param featureType feature of the source caves
+   * @param roomId      room ID
+   * @return number of moves between caves, or {@link #UNREACHABLE}
+   * @throws IllegalArgumentException if the room is not in the maze
+   */
+  public int getDistanceToFeature(FeatureType featureType, int roomId) {
+    if (roomId < 0 || roomId >= maze.getCountRooms()) {
+      throw new IllegalArgumentException("Room not found");
+    }
+    return getDistancesToFeature(featureType)[roomId];
+  }
+
+  // Rebuilds the adjacency of the caves when the corridor graph of the maze has been replaced.
+  private void update() {
+    CorridorGraph current = maze.getCorridorGraph();
+    if (current == graph) {
+      return;
+    }
+    List<Room> caves = maze.getAllCaves();
+    caveNumbers = new int[maze.getCountRooms()];
+    Arrays.fill(caveNumbers, -1);
+    caveIds = new int[caves.size()];
+    for (int caveNumber = 0; caveNumber < caveIds.length; caveNumber++) {
+      caveIds[caveNumber] = caves.get(caveNumber).getRoomId();
+      caveNumbers[caveIds[caveNumber]] = caveNumber;
+    }
+    adjacent = new int[caveIds.length * DIRECTIONS.length];
+    for (int caveNumber = 0; caveNumber < caveIds.length; caveNumber++) {
+      for (Direction direction : DIRECTIONS) {
+        Room cave = current.getAdjacentCave(caveIds[caveNumber], direction);
+        adjacent[caveNumber * DIRECTIONS.length + direction.ordinal()]
+                = cave == null ? -1 : caveNumbers[cave.getRoomId()];
+      }
+    }
+    queue = new int[caveIds.length];
+    featureDistances.clear();
+    graph = current;
+  }
+}
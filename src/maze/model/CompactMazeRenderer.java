@@ -0,0 +1,36 @@
+package maze.model;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renders a maze in a compact machine-readable format. The first line holds the number of rows and
+ * columns, followed by one line per row with one hexadecimal digit per room. Bit (1 &lt;&lt;
+ * direction.ordinal()) of the digit is set when the room is open in that direction.
+ */
+public class CompactMazeRenderer implements IMazeRenderer {
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  @Override
+  public void render(InterfaceMaze maze, Writer writer) throws IOException {
+    WallTopology topology = maze.getWallTopology();
+    int col = topology.getCol();
+    writer.write(topology.getRow() + " " + col + "\n");
+
+    char[] line = new char[col + 1];
+    line[col] = '\n';
+    for (int first = 0; first < topology.getCountRooms(); first += col) {
+      for (int c = 0; c < col; c++) {
+        int openings = 0;
+        for (Direction direction : DIRECTIONS) {
+          if (topology.isOpen(first + c, direction)) {
+            openings |= direction.getBit();
+          }
+        }
+        line[c] = HEX_DIGITS[openings];
+      }
+      writer.write(line);
+    }
+  }
+}
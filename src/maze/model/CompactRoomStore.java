@@ -0,0 +1,270 @@
+package maze.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Rooms of a maze kept in parallel primitive arrays instead of one object per room. The kind of a
+ * room follows from its cave number, the neighbours from the wall topology and the adjacent caves
+ * from the corridor graph, while the feature bits of every cave are stored here. Room objects are
+ * light views created on demand, holding nothing but the store and the room ID, so they can be
+ * dropped right after use and two views of the same room are equal.
+ *
+ * <p>The views read their doors from the wall topology, so they are never linked to other rooms.
+ */
+class CompactRoomStore {
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final WallTopology topology;
+  //position of every room among the caves, or -1 for a tunnel
+  private final int[] caveNumbers;
+  //feature bits of every cave by cave number, bit 1 << ordinal() for each feature
+  private final int[] features;
+  private final RoomIndex roomIndex;
+  private final CorridorGraph corridorGraph;
+  private final List<Room> rooms;
+
+  /**
+   * Constructor for the rooms of a maze whose walls have been removed. Rooms with exactly two
+   * doors are tunnels, all others are caves.
+   *
+   * @param topology wall topology of the maze
+   */
+  CompactRoomStore(WallTopology topology) {
+    this.topology = topology;
+    int countRooms = topology.getCountRooms();
+    this.caveNumbers = new int[countRooms];
+    int countCaves = 0;
+    for (int room = 0; room < countRooms; room++) {
+      caveNumbers[room] = topology.getCountDoors(room) == 2 ? -1 : countCaves++;
+    }
+    this.features = new int[countCaves];
+    this.roomIndex = new RoomIndex(caveNumbers, roomId -> new RoomView(this, roomId));
+    this.corridorGraph = new CorridorGraph(topology, roomIndex);
+    this.rooms = new RoomList();
+  }
+
+  RoomIndex getRoomIndex() {
+    return roomIndex;
+  }
+
+  CorridorGraph getCorridorGraph() {
+    return corridorGraph;
+  }
+
+  /**
+   * Returns a read-only list of all rooms by their IDs, creating the rooms as they are read.
+   *
+   * @return list of all rooms
+   */
+  List<Room> getRooms() {
+    return rooms;
+  }
+
+  // Read-only list of the rooms by their IDs.
+  private class RoomList extends AbstractList<Room> implements RandomAccess {
+    @Override
+    public Room get(int roomId) {
+      if (roomId < 0 || roomId >= caveNumbers.length) {
+        throw new IndexOutOfBoundsException("Room " + roomId);
+      }
+      return new RoomView(CompactRoomStore.this, roomId);
+    }
+
+    @Override
+    public int size() {
+      return caveNumbers.length;
+    }
+  }
+
+  // View of one room of the store.
+  private static final class RoomView implements MutableRoom {
+    private final CompactRoomStore store;
+    private final int roomId;
+
+    private RoomView(CompactRoomStore store, int roomId) {
+      this.store = store;
+      this.roomId = roomId;
+    }
+
+    private int getCaveNumber() {
+      return store.caveNumbers[roomId];
+    }
+
+    private int getCaveNumberOrThrow(String message) {
+      int caveNumber = store.caveNumbers[roomId];
+      if (caveNumber < 0) {
+        throw new IllegalArgumentException(message);
+      }
+      return caveNumber;
+    }
+
+    @Override
+    public Map<Direction, Room> getPossibleMoves() {
+      Map<Direction, Room> possibleMoves = new EnumMap<>(Direction.class);
+      for (Direction direction : DIRECTIONS) {
+        if (store.topology.isOpen(roomId, direction)) {
+          possibleMoves.put(direction, store.roomIndex.getRoom(
+                  store.topology.getNeighbour(roomId, direction)));
+        }
+      }
+      return possibleMoves;
+    }
+
+    @Override
+    public int getRoomId() {
+      return roomId;
+    }
+
+    @Override
+    public String getCaveId() {
+      return "C" + getCaveNumberOrThrow("Room is a tunnel, not a cave");
+    }
+
+    @Override
+    public boolean isCave() {
+      return getCaveNumber() >= 0;
+    }
+
+    @Override
+    public void addNewFeature(FeatureType featureType) {
+      int caveNumber = getCaveNumberOrThrow("Room is a tunnel, not a cave and features cannot "
+                                                    + "be added");
+      store.features[caveNumber] |= FeatureView.bit(featureType);
+      store.roomIndex.updateFeature(roomId, featureType, true);
+    }
+
+    @Override
+    public void removeFeature(FeatureType featureType) {
+      int caveNumber = getCaveNumberOrThrow("Room is a tunnel, not a cave and features cannot "
+                                                    + "be removed");
+      store.features[caveNumber] &= ~FeatureView.bit(featureType);
+      store.roomIndex.updateFeature(roomId, featureType, false);
+    }
+
+    @Override
+    public boolean hasFeature(FeatureType featureType) {
+      int caveNumber = getCaveNumber();
+      return caveNumber >= 0 && (store.features[caveNumber] & FeatureView.bit(featureType)) != 0;
+    }
+
+    @Override
+    public Map<FeatureType, Boolean> getFeatures() {
+      int caveNumber = getCaveNumberOrThrow("Room is a tunnel, not a cave and features don't "
+                                                    + "exist");
+      return new FeatureView(() -> store.features[caveNumber]);
+    }
+
+    @Override
+    public Room findCaveAtDistance(Direction inverseIncomingDirection, int distanceForCave) {
+      if (distanceForCave < 1) {
+        return null;
+      }
+      int room = roomId;
+      Direction direction = inverseIncomingDirection;
+      //an arrow shot from a tunnel leaves it in the direction shot and follows the tunnels
+      if (store.caveNumbers[room] < 0) {
+        if (!store.topology.isOpen(room, direction)) {
+          return null;
+        }
+        room = store.topology.getNeighbour(room, direction);
+        while (store.caveNumbers[room] < 0) {
+          if (room == roomId) {
+            return null;
+          }
+          direction = CorridorGraph.getWayOut(store.topology, room, direction);
+          room = store.topology.getNeighbour(room, direction);
+        }
+      }
+      return store.corridorGraph.getCaveAtDistance(room, direction, distanceForCave);
+    }
+
+    @Override
+    public Map<Direction, Room> getAdjacentCaves() {
+      getCaveNumberOrThrow("Room is a tunnel, not a cave");
+      Map<Direction, Room> adjacentCaves = new EnumMap<>(Direction.class);
+      for (Direction direction : DIRECTIONS) {
+        Room cave = store.corridorGraph.getAdjacentCave(roomId, direction);
+        if (cave != null) {
+          adjacentCaves.put(direction, cave);
+        }
+      }
+      return adjacentCaves;
+    }
+
+    @Override
+    public Smell getSmellDetails() {
+      getCaveNumberOrThrow("Tunnel does not have smell");
+      int smellMask = 0;
+      for (Direction direction : DIRECTIONS) {
+        int cave = store.corridorGraph.getAdjacentCaveId(roomId, direction);
+        if (cave >= 0) {
+          smellMask |= store.features[store.caveNumbers[cave]];
+        }
+      }
+      return Smell.of(smellMask & Smell.SMELLING_FEATURES);
+    }
+
+    @Override
+    public Set<SmellName> getSmellIconSet() {
+      if (!isCave()) {
+        throw new IllegalArgumentException("No smells in tunnel");
+      }
+      return getSmellDetails().getSmellIconSet();
+    }
+
+    @Override
+    public Map<Direction, List<Room>> getConnectingTunnels() {
+      getCaveNumberOrThrow("Room is a tunnel, not a cave");
+      Map<Direction, List<Room>> connectingTunnels = new EnumMap<>(Direction.class);
+      for (Direction direction : DIRECTIONS) {
+        List<Room> tunnels = store.corridorGraph.getConnectingTunnels(roomId, direction);
+        if (tunnels.size() != 0) {
+          connectingTunnels.put(direction, tunnels);
+        }
+      }
+      return connectingTunnels;
+    }
+
+    @Override
+    public List<Room> findAllConnectingTunnels(Direction direction) {
+      List<Room> connectingTunnels = new ArrayList<>();
+      if (isCave()) {
+        return connectingTunnels;
+      }
+      int room = roomId;
+      //a ring made only of tunnels leads back to this tunnel instead of a cave
+      do {
+        connectingTunnels.add(store.roomIndex.getRoom(room));
+        direction = CorridorGraph.getWayOut(store.topology, room, direction);
+        room = store.topology.getNeighbour(room, direction);
+      } while (store.caveNumbers[room] < 0 && room != roomId);
+      //tunnels are listed from the far end of the corridor back to this tunnel
+      Collections.reverse(connectingTunnels);
+      return connectingTunnels;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof RoomView)) {
+        return false;
+      }
+      RoomView other = (RoomView) o;
+      return store == other.store && roomId == other.roomId;
+    }
+
+    @Override
+    public int hashCode() {
+      return roomId;
+    }
+  }
+}
@@ -0,0 +1,322 @@
+package maze.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compressed graph of the corridors in a maze. Caves are the nodes of the graph and every chain of
+ * tunnels between two caves is collapsed into a single edge carrying the length of the corridor
+ * and the IDs of its tunnels. The graph is built in one pass over the maze that walks every
+ * corridor exactly once, and after that every lookup takes constant time.
+ *
+ * <p>An arrow that reaches a cave keeps flying in the direction it was moving when it entered the
+ * cave, so the caves it passes form a straight-line cave sequence. Every pair of cave and direction
+ * has exactly one successor and at most one predecessor, which splits all pairs into disjoint
+ * paths and cycles. These sequences are laid out in one array, so the cave an arrow lands in at any
+ * distance is found with a single lookup.
+ */
+public class CorridorGraph {
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final RoomIndex roomIndex;
+
+  //for every cave and direction, slot = caveNumber * 4 + direction.ordinal()
+  private final int[] slotCorridor;
+  private final int[] slotTarget;
+  private final boolean[] slotReversed;
+  //slot the arrow is in after flying through the corridor of a slot, or -1 for a wall
+  private final int[] slotNext;
+
+  //tunnels of corridor k are tunnelIds[tunnelOffsets[k]] to tunnelIds[tunnelOffsets[k + 1] - 1],
+  //ordered from the cave the corridor was first walked from
+  private final int[] tunnelOffsets;
+  private final int[] tunnelIds;
+  private final int countCorridors;
+
+  //straight-line sequences of slots, sequence k is sequences[sequenceStart[k]] onwards
+  private final int[] sequences;
+  private final int[] slotSequence;
+  private final int[] slotPosition;
+  private final int[] sequenceStart;
+  private final int[] sequenceLength;
+  private final boolean[] sequenceCycle;
+
+  /**
+   * Constructor for the graph of the corridors in a maze.
+   *
+   * @param topology  wall topology of the maze
+   * @param roomIndex index over the caves and tunnels of the maze
+   * @throws IllegalStateException if a tunnel does not lead to a cave
+   */
+  public CorridorGraph(WallTopology topology, RoomIndex roomIndex) {
+    this.roomIndex = roomIndex;
+    int countSlots = roomIndex.getCaves().size() * DIRECTIONS.length;
+    this.slotCorridor = new int[countSlots];
+    this.slotTarget = new int[countSlots];
+    this.slotReversed = new boolean[countSlots];
+    this.slotNext = new int[countSlots];
+    Arrays.fill(slotCorridor, -1);
+    Arrays.fill(slotNext, -1);
+
+    int[] offsets = new int[countSlots + 1];
+    int[] tunnels = new int[roomIndex.getCountRooms() - roomIndex.getCaves().size()];
+    int countTunnels = 0;
+    int corridor = 0;
+
+    for (int caveNumber = 0; caveNumber < roomIndex.getCaves().size(); caveNumber++) {
+      int cave = roomIndex.getCaves().get(caveNumber).getRoomId();
+      for (Direction start : DIRECTIONS) {
+        int slot = caveNumber * DIRECTIONS.length + start.ordinal();
+        if (!topology.isOpen(cave, start) || slotCorridor[slot] != -1) {
+          continue;
+        }
+
+        //follow the tunnels until the next cave is reached
+        Direction direction = start;
+        int room = topology.getNeighbour(cave, direction);
+        while (roomIndex.getCaveNumber(room) < 0) {
+          if (countTunnels == tunnels.length) {
+            throw new IllegalStateException("Tunnel " + room + " does not lead to a cave");
+          }
+          tunnels[countTunnels++] = room;
+          direction = getWayOut(topology, room, direction);
+          room = topology.getNeighbour(room, direction);
+        }
+
+        int targetNumber = roomIndex.getCaveNumber(room);
+        int reverseSlot = targetNumber * DIRECTIONS.length
+                                  + direction.opposite().ordinal();
+        slotCorridor[slot] = corridor;
+        slotTarget[slot] = room;
+        slotNext[slot] = targetNumber * DIRECTIONS.length + direction.ordinal();
+        slotCorridor[reverseSlot] = corridor;
+        slotTarget[reverseSlot] = cave;
+        slotReversed[reverseSlot] = true;
+        slotNext[reverseSlot] = caveNumber * DIRECTIONS.length
+                                        + start.opposite().ordinal();
+
+        offsets[++corridor] = countTunnels;
+      }
+    }
+
+    this.countCorridors = corridor;
+    this.tunnelOffsets = Arrays.copyOf(offsets, corridor + 1);
+    this.tunnelIds = Arrays.copyOf(tunnels, countTunnels);
+
+    this.sequences = new int[countSlots];
+    this.slotSequence = new int[countSlots];
+    this.slotPosition = new int[countSlots];
+    this.sequenceStart = new int[countSlots];
+    this.sequenceLength = new int[countSlots];
+    this.sequenceCycle = new boolean[countSlots];
+    buildSequences();
+  }
+
+  private void buildSequences() {
+    int countSlots = slotNext.length;
+    boolean[] hasPredecessor = new boolean[countSlots];
+    for (int slot = 0; slot < countSlots; slot++) {
+      if (slotNext[slot] >= 0) {
+        hasPredecessor[slotNext[slot]] = true;
+      }
+    }
+    Arrays.fill(slotSequence, -1);
+
+    int countSequences = 0;
+    int length = 0;
+    //paths start at the pairs no arrow can fly into, whatever is left over lies on cycles
+    for (int pass = 0; pass < 2; pass++) {
+      for (int first = 0; first < countSlots; first++) {
+        if (slotSequence[first] != -1 || (pass == 0 && hasPredecessor[first])) {
+          continue;
+        }
+        sequenceStart[countSequences] = length;
+        sequenceCycle[countSequences] = pass == 1;
+        for (int slot = first; slot != -1 && slotSequence[slot] == -1; slot = slotNext[slot]) {
+          slotSequence[slot] = countSequences;
+          slotPosition[slot] = length;
+          sequences[length++] = slot;
+        }
+        sequenceLength[countSequences] = length - sequenceStart[countSequences];
+        countSequences++;
+      }
+    }
+  }
+
+  /**
+   * Returns the direction in which a tunnel is left when it was entered moving in a direction.
+   *
+   * @param topology wall topology of the maze
+   * @param tunnel   room ID of the tunnel
+   * @param incoming direction of the move into the tunnel
+   * @return direction of the other door of the tunnel
+   * @throws IllegalStateException if the tunnel has no other door
+   */
+  static Direction getWayOut(WallTopology topology, int tunnel, Direction incoming) {
+    Direction back = incoming.opposite();
+    for (Direction direction : DIRECTIONS) {
+      if (direction != back && topology.isOpen(tunnel, direction)) {
+        return direction;
+      }
+    }
+    throw new IllegalStateException("Maze incorrectly formed, tunnel cannot find a door out");
+  }
+
+  private int getSlot(int caveId, Direction direction) {
+    int caveNumber = roomIndex.getCaveNumber(caveId);
+    if (caveNumber < 0) {
+      throw new IllegalArgumentException("Room is a tunnel, not a cave");
+    }
+    return caveNumber * DIRECTIONS.length + direction.ordinal();
+  }
+
+  /**
+   * Returns the number of corridors in the maze, counting a door between two neighbouring caves
+   * as a corridor without tunnels.
+   *
+   * @return number of corridors
+   */
+  public int getCountCorridors() {
+    return countCorridors;
+  }
+
+  /**
+   * Returns the cave at the other end of the corridor leaving a cave in a direction.
+   *
+   * @param caveId    room ID of the cave
+   * @param direction direction in which the corridor leaves the cave
+   * @return the adjacent cave, or null if there is a wall in that direction
+   * @throws IllegalArgumentException if the room is a tunnel
+   */
+  public Room getAdjacentCave(int caveId, Direction direction) {
+    int slot = getSlot(caveId, direction);
+    return slotCorridor[slot] < 0 ? null : roomIndex.getRoom(slotTarget[slot]);
+  }
+
+  RoomIndex getRoomIndex() {
+    return roomIndex;
+  }
+
+  /**
+   * Returns the room ID of the cave at the other end of the corridor leaving a cave in a
+   * direction, without creating the room.
+   *
+   * @param caveId    room ID of the cave
+   * @param direction direction in which the corridor leaves the cave
+   * @return room ID of the adjacent cave, or -1 if there is a wall in that direction
+   * @throws IllegalArgumentException if the room is a tunnel
+   */
+  int getAdjacentCaveId(int caveId, Direction direction) {
+    int slot = getSlot(caveId, direction);
+    return slotCorridor[slot] < 0 ? -1 : slotTarget[slot];
+  }
+
+  /**
+   * Returns the cave in which an arrow shot from a cave lands. The arrow follows the tunnels and
+   * flies straight through the caves it passes until it has entered distance - 1 caves. A distance
+   * of 1 is the cave the arrow is shot from.
+   *
+   * @param caveId    room ID of the cave the arrow is shot from
+   * @param direction direction in which the arrow is shot
+   * @param distance  number of caves, including the starting one, counted until the arrow lands
+   * @return the cave the arrow lands in, or null if it hits a wall or the distance is below 1
+   * @throws IllegalArgumentException if the room is a tunnel
+   */
+  public Room getCaveAtDistance(int caveId, Direction direction, int distance) {
+    int slot = getSlot(caveId, direction);
+    if (distance < 1) {
+      return null;
+    }
+    int sequence = slotSequence[slot];
+    long offset = slotPosition[slot] - sequenceStart[sequence] + (long) distance - 1;
+    if (sequenceCycle[sequence]) {
+      offset %= sequenceLength[sequence];
+    } else if (offset >= sequenceLength[sequence]) {
+      return null;
+    }
+    int landingSlot = sequences[sequenceStart[sequence] + (int) offset];
+    return roomIndex.getCaves().get(landingSlot / DIRECTIONS.length);
+  }
+
+  /**
+   * Returns the number of moves needed to reach the adjacent cave in a direction.
+   *
+   * @param caveId    room ID of the cave
+   * @param direction direction in which the corridor leaves the cave
+   * @return length of the corridor, or 0 if there is a wall in that direction
+   * @throws IllegalArgumentException if the room is a tunnel
+   */
+  public int getCorridorLength(int caveId, Direction direction) {
+    int slot = getSlot(caveId, direction);
+    int corridor = slotCorridor[slot];
+    return corridor < 0 ? 0 : tunnelOffsets[corridor + 1] - tunnelOffsets[corridor] + 1;
+  }
+
+  /**
+   * Returns the IDs of the tunnels in the corridor leaving a cave in a direction, ordered from
+   * the cave.
+   *
+   * @param caveId    room ID of the cave
+   * @param direction direction in which the corridor leaves the cave
+   * @return IDs of the tunnels, empty if there are none or there is a wall in that direction
+   * @throws IllegalArgumentException if the room is a tunnel
+   */
+  public int[] getTunnelIds(int caveId, Direction direction) {
+    int[] ids = new int[getCountTunnels(caveId, direction)];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = getTunnelId(caveId, direction, i);
+    }
+    return ids;
+  }
+
+  /**
+   * Returns the number of tunnels in the corridor leaving a cave in a direction.
+   *
+   * @param caveId    room ID of the cave
+   * @param direction direction in which the corridor leaves the cave
+   * @return number of tunnels, 0 if there are none or there is a wall in that direction
+   * @throws IllegalArgumentException if the room is a tunnel
+   */
+  int getCountTunnels(int caveId, Direction direction) {
+    int corridor = slotCorridor[getSlot(caveId, direction)];
+    return corridor < 0 ? 0 : tunnelOffsets[corridor + 1] - tunnelOffsets[corridor];
+  }
+
+  /**
+   * Returns the ID of one tunnel in the corridor leaving a cave in a direction, without copying
+   * the IDs of the corridor.
+   *
+   * @param caveId    room ID of the cave
+   * @param direction direction in which the corridor leaves the cave
+   * @param index     position of the tunnel counted from the cave, from 0
+   * @return room ID of the tunnel
+   * @throws IllegalArgumentException if the room is a tunnel or the index is out of range
+   */
+  int getTunnelId(int caveId, Direction direction, int index) {
+    int slot = getSlot(caveId, direction);
+    int corridor = slotCorridor[slot];
+    if (corridor < 0 || index < 0
+                || index >= tunnelOffsets[corridor + 1] - tunnelOffsets[corridor]) {
+      throw new IllegalArgumentException("Tunnel not found");
+    }
+    return slotReversed[slot] ? tunnelIds[tunnelOffsets[corridor + 1] - 1 - index]
+                   : tunnelIds[tunnelOffsets[corridor] + index];
+  }
+
+  /**
+   * Returns the tunnels in the corridor leaving a cave in a direction, ordered from the cave.
+   *
+   * @param caveId    room ID of the cave
+   * @param direction direction in which the corridor leaves the cave
+   * @return list of tunnels, empty if there are none or there is a wall in that direction
+   * @throws IllegalArgumentException if the room is a tunnel
+   */
+  public List<Room> getConnectingTunnels(int caveId, Direction direction) {
+    List<Room> tunnels = new ArrayList<>();
+    for (int tunnelId : getTunnelIds(caveId, direction)) {
+      tunnels.add(roomIndex.getRoom(tunnelId));
+    }
+    return tunnels;
+  }
+}
@@ -8,6 +8,8 @@ public class CurrentPlayerInfo {
   private final String name;
   private Room room;
   private int weapons;
+  //smell of the room as seen in the game, or null to read it from the room
+  private Smell smell;
 
   /**
    * Constructor for the player info.
@@ -24,6 +26,20 @@ public class CurrentPlayerInfo {
     this.weapons = arrowCount;
   }
 
+  /**
+   * Constructor for the player info with the smell of the room as seen in the game.
+   *
+   * @param gold       with the player
+   * @param name       name of player
+   * @param room       room of player
+   * @param arrowCount weapons with player
+   * @param smell      smell of the room in the game
+   */
+  public CurrentPlayerInfo(int gold, String name, Room room, int arrowCount, Smell smell) {
+    this(gold, name, room, arrowCount);
+    this.smell = smell;
+  }
+
   public int getGold() {
     return gold;
   }
@@ -54,7 +70,7 @@ public class CurrentPlayerInfo {
     stringBuilder.append("Arrows: " + weapons);
     stringBuilder.append("}");
 
-    stringBuilder.append(room.getSmellDetails().toString());
+    stringBuilder.append((smell != null ? smell : room.getSmellDetails()).toString());
 
     return stringBuilder.toString();
   }
@@ -4,8 +4,60 @@ package maze.model;
  * Enum for the direction that the player can move during his game.
  */
 public enum Direction {
-  EAST,
-  WEST,
-  NORTH,
-  SOUTH
+  EAST(0, 1),
+  WEST(0, -1),
+  NORTH(-1, 0),
+  SOUTH(1, 0);
+
+  static {
+    EAST.opposite = WEST;
+    WEST.opposite = EAST;
+    NORTH.opposite = SOUTH;
+    SOUTH.opposite = NORTH;
+  }
+
+  private final int rowDelta;
+  private final int colDelta;
+  private Direction opposite;
+
+  Direction(int rowDelta, int colDelta) {
+    this.rowDelta = rowDelta;
+    this.colDelta = colDelta;
+  }
+
+  /**
+   * Returns the direction pointing the other way.
+   *
+   * @return opposite direction
+   */
+  public Direction opposite() {
+    return opposite;
+  }
+
+  /**
+   * Returns the change in row when moving one room in this direction, without wrapping.
+   *
+   * @return -1, 0 or 1
+   */
+  public int getRowDelta() {
+    return rowDelta;
+  }
+
+  /**
+   * Returns the change in column when moving one room in this direction, without wrapping.
+   *
+   * @return -1, 0 or 1
+   */
+  public int getColDelta() {
+    return colDelta;
+  }
+
+  /**
+   * Returns the bit of this direction in a mask of directions, such as the openings of a room.
+   *
+   * @return 1 &lt;&lt; ordinal()
+   */
+  public int getBit() {
+    return 1 << ordinal();
+  }
 }
@@ -0,0 +1,46 @@
+package maze.model;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Generator that builds the maze one row at a time, as in Eller's algorithm. Only the set label of
+ * every column in the current row is remembered, so the state needed is proportional to the
+ * number of columns. Rooms in a row are randomly joined to their neighbours in other sets, and
+ * every set continues into the next row through at least one room. The last row joins all the
+ * remaining sets. Wrapping walls between the first and the last column are treated like any other
+ * wall of the row.
+ *
+ * <p>Unlike the other generators, only the east-west wrapping walls are ever demolished. The
+ * wrapping walls between the last and the first row would join the last row to a row that has
+ * already been completed, so a wrapping maze from this generator only wraps around its columns.
+ */
+public class EllersGenerator extends AbstractMazeGenerator {
+
+  @Override
+  public void generate(WallTopology topology, boolean wrapping, Random random) {
+    int col = topology.getCol();
+    StreamingEllersGenerator rowGenerator = new StreamingEllersGenerator(topology.getRow(), col,
+            wrapping);
+    try {
+      rowGenerator.generate(random, (rowNumber, openings) -> {
+        for (int c = 0; c < col; c++) {
+          //the west and north walls are demolished through the neighbours
+          if ((openings[c] & Direction.EAST.getBit()) != 0) {
+            topology.open(rowNumber * col + c, Direction.EAST);
+          }
+          if ((openings[c] & Direction.SOUTH.getBit()) != 0) {
+            topology.open(rowNumber * col + c, Direction.SOUTH);
+          }
+        }
+      });
+    } catch (IOException e) {
+      throw new IllegalStateException("Maze topology cannot be written", e);
+    }
+  }
+
+  @Override
+  public GeneratorType getGeneratorType() {
+    return GeneratorType.ELLERS;
+  }
+}
@@ -0,0 +1,41 @@
+package maze.model;
+
+/**
+ * Thrown when a feature cannot be added to as many caves as requested, because there are not
+ * enough caves which do not already have the feature or the wumpus.
+ */
+public class FeaturePlacementException extends IllegalArgumentException {
+  private static final long serialVersionUID = 1L;
+
+  private final FeatureType featureType;
+  private final int countRequested;
+  private final int countAvailable;
+
+  /**
+   * Constructor for the exception.
+   *
+   * @param featureType    feature that could not be placed
+   * @param countRequested number of caves that should have received the feature
+   * @param countAvailable number of caves that could have received the feature
+   */
+  public FeaturePlacementException(FeatureType featureType, int countRequested,
+                                   int countAvailable) {
+    super("Cannot add " + featureType + " to " + countRequested + " caves, only "
+                  + countAvailable + " caves are available");
+    this.featureType = featureType;
+    this.countRequested = countRequested;
+    this.countAvailable = countAvailable;
+  }
+
+  public FeatureType getFeatureType() {
+    return featureType;
+  }
+
+  public int getCountRequested() {
+    return countRequested;
+  }
+
+  public int getCountAvailable() {
+    return countAvailable;
+  }
+}
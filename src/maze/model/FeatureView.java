@@ -0,0 +1,66 @@
+package maze.model;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+/**
+ * Read-only map over the feature bits of a cave, bit 1 &lt;&lt; ordinal() for each feature, so that
+ * no map has to be kept per cave. The view always lists the wumpus, bats, pit, gold and thief,
+ * mapped to false if the cave does not have them, and every other feature the cave has. It reads
+ * the bits on every lookup, so it follows the changes to the cave.
+ */
+class FeatureView extends AbstractMap<FeatureType, Boolean> {
+  private static final FeatureType[] FEATURE_TYPES = FeatureType.values();
+  //features listed in the view of every cave, even when the cave does not have them
+  private static final int LISTED_FEATURES = bit(FeatureType.WUMPUS) | bit(FeatureType.BAT)
+                                                     | bit(FeatureType.PIT) | bit(FeatureType.GOLD)
+                                                     | bit(FeatureType.THIEF);
+
+  private final IntSupplier features;
+
+  /**
+   * Constructor for the view.
+   *
+   * @param features supplier of the current feature bits of the cave
+   */
+  FeatureView(IntSupplier features) {
+    this.features = features;
+  }
+
+  static int bit(FeatureType featureType) {
+    return 1 << featureType.ordinal();
+  }
+
+  @Override
+  public Boolean get(Object key) {
+    if (!(key instanceof FeatureType)) {
+      return null;
+    }
+    int bit = bit((FeatureType) key);
+    if ((features.getAsInt() & bit) != 0) {
+      return Boolean.TRUE;
+    }
+    return (LISTED_FEATURES & bit) != 0 ? Boolean.FALSE : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public Set<Entry<FeatureType, Boolean>> entrySet() {
+    Map<FeatureType, Boolean> entries = new EnumMap<>(FeatureType.class);
+    for (FeatureType featureType : FEATURE_TYPES) {
+      Boolean value = get(featureType);
+      if (value != null) {
+        entries.put(featureType, value);
+      }
+    }
+    return Collections.unmodifiableMap(entries).entrySet();
+  }
+}
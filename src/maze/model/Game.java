@@ -9,6 +9,7 @@ import java.util.Random;
  * goal.
  */
 public class Game extends AbstractGame {
+  private static final Direction[] DIRECTIONS = Direction.values();
 
   private int goal;
   private boolean goalReached;
@@ -58,48 +59,15 @@ public class Game extends AbstractGame {
   @Override
   public Map<Room, Direction> getValidPositions(Room playerRoomPosition) {
     Map<Room, Direction> validNextPositions = new HashMap<>();
-    int[][] grid = this.getMaze().getGridAdjMatrix();
+    WallTopology topology = this.getMaze().getWallTopology();
     int position = playerRoomPosition.getRoomId();
 
-    for (int i = 0; i < this.getMaze().getCountRooms(); i++) {
-      if (grid[position][i] == 1) {
-        if (i == position + 1) {
-          validNextPositions.put(getMaze().getRoomById(i, getMaze().getRooms()), Direction.EAST);
-        } else if (i == position - 1) {
-          validNextPositions.put(getRoom(i), Direction.WEST);
-        } else if (i == position + this.getMaze().getCol()) {
-          validNextPositions.put(getRoom(i), Direction.SOUTH);
-        } else if (i == position - this.getMaze().getCol()) {
-          validNextPositions.put(getRoom(i), Direction.NORTH);
-        }
-
-
-        if (this.getMaze().getWrappingFlag()) {
-          if (position < this.getMaze().getCol()) { //first row
-            if (i == position + (this.getMaze().getRow() - 1) * this.getMaze().getCol()) {
-              validNextPositions.put(getRoom(i), Direction.NORTH);
-            }
-          } else if (position > (this.getMaze().getRow() - 1) * this.getMaze().getCol()) {
-            //last row
-            if (i == position - ((this.getMaze().getRow() - 1) * this.getMaze().getCol())) {
-              validNextPositions.put(getRoom(i), Direction.SOUTH);
-            }
-          } else if (position % this.getMaze().getCol() == 0) { //leftmost col
-            if (i == position + this.getMaze().getCol() - 1) {
-              validNextPositions.put(getRoom(i), Direction.WEST);
-            }
-          } else if ((position + 1) % this.getMaze().getCol() == 0) { //rightmost col
-            if (i == position - (this.getMaze().getCol() - 1)) {
-              validNextPositions.put(getRoom(i), Direction.EAST);
-            }
-          }
-        }
-
+    for (Direction direction : DIRECTIONS) {
+      if (topology.isOpen(position, direction)) {
+        validNextPositions.put(getRoom(topology.getNeighbour(position, direction)), direction);
       }
     }
     return validNextPositions;
-
-
   }
 
   @Override
@@ -118,7 +86,7 @@ public class Game extends AbstractGame {
   }
 
   private Room getRoom(int i) {
-    return getMaze().getRoomById(i, getMaze().getRooms());
+    return getMaze().getRoomById(i);
   }
 }
 
@@ -8,6 +8,7 @@ public class GameInput implements IGameInput {
   private ThemeName themeName;
   private boolean wrapping;
   private boolean perfect;
+  private GeneratorType generatorType = GeneratorType.PRIMS;
   private int rows;
   private int columns;
   private int randomSeed = 15000;
@@ -52,7 +53,8 @@ public class GameInput implements IGameInput {
   @Override
   public String toString() {
     return "GameInput{" + "gameTheme=" + themeName + ", players=" + countPlayers + ", wrapping="
-                   + wrapping + ", perfect=" + perfect + ", rows=" + rows + ", columns=" + columns
+                   + wrapping + ", perfect=" + perfect + ", generator=" + generatorType
+                   + ", rows=" + rows + ", columns=" + columns
                    + ", remainingWalls=" + remainingWalls
                    + ", percentBats=" + percentBats + ", percentPits=" + percentPits
                    + ", percentGold=" + percentGold + ", percentThieves=" + percentThieves
@@ -77,6 +79,16 @@ public class GameInput implements IGameInput {
     return perfect;
   }
 
+  @Override
+  public GeneratorType getGeneratorType() {
+    return generatorType;
+  }
+
+  @Override
+  public void setGeneratorType(GeneratorType generatorType) {
+    this.generatorType = generatorType;
+  }
+
   @Override
   public int getRows() {
     return rows;
@@ -0,0 +1,208 @@
+package maze.model;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * State of one game played on a maze. The maze itself is only read, so any number of sessions can
+ * share one maze, even across threads. Everything a game changes is kept here as a small overlay
+ * on top of the maze: the rooms the players have visited and the features added to or removed
+ * from caves during the game. Games read the features, the smells and the arrow hits through the
+ * session. A session is used by a single game and is not thread-safe.
+ *
+ * <p>The rooms of a maze are read-only once it is built: the gold collected by a player and the
+ * wumpus slain by an arrow are removed from the session, not from the cave. The building steps of
+ * {@link InterfaceMaze}, such as adding features or assigning it a player with
+ * {@link InterfaceMaze#assignPlayer}, still write the shared maze and must not be called while
+ * sessions play on it.
+ */
+public class GameSession {
+  private static final FeatureType[] FEATURE_TYPES = FeatureType.values();
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final InterfaceMaze maze;
+  private final BitSet visited;
+  private final Map<FeatureType, BitSet> addedFeatures;
+  private final Map<FeatureType, BitSet> removedFeatures;
+
+  /**
+   * Constructor for a session on a maze where no room has been visited yet.
+   *
+   * @param maze maze shared by the session
+   * @throws IllegalArgumentException if the maze is null
+   */
+  public GameSession(InterfaceMaze maze) {
+    if (maze == null) {
+      throw new IllegalArgumentException("No maze provided");
+    }
+    this.maze = maze;
+    this.visited = new BitSet(maze.getCountRooms());
+    this.addedFeatures = new EnumMap<>(FeatureType.class);
+    this.removedFeatures = new EnumMap<>(FeatureType.class);
+  }
+
+  public InterfaceMaze getMaze() {
+    return maze;
+  }
+
+  /**
+   * Marks a room as visited in this session.
+   *
+   * @param roomId room ID
+   * @return true if the room had not been visited before
+   * @throws IllegalArgumentException if the room is not in the maze
+   */
+  public boolean setVisited(int roomId) {
+    checkRoom(roomId);
+    if (visited.get(roomId)) {
+      return false;
+    }
+    visited.set(roomId);
+    return true;
+  }
+
+  /**
+   * Returns whether a room has been visited in this session.
+   *
+   * @param roomId room ID
+   * @return true if the room has been visited
+   * @throws IllegalArgumentException if the room is not in the maze
+   */
+  public boolean isVisited(int roomId) {
+    checkRoom(roomId);
+    return visited.get(roomId);
+  }
+
+  /**
+   * Returns the number of rooms visited in this session.
+   *
+   * @return number of visited rooms
+   */
+  public int getCountVisited() {
+    return visited.cardinality();
+  }
+
+  /**
+   * Returns whether a cave has a feature in this session, taking the features added and removed
+   * during the session into account. Tunnels never have features.
+   *
+   * @param roomId      room ID
+   * @param featureType feature to check
+   * @return true if the room has the feature
+   * @throws IllegalArgumentException if the room is not in the maze
+   */
+  public boolean hasFeature(int roomId, FeatureType featureType) {
+    checkRoom(roomId);
+    if (contains(removedFeatures, featureType, roomId)) {
+      return false;
+    }
+    if (contains(addedFeatures, featureType, roomId)) {
+      return true;
+    }
+    return maze.getRoomById(roomId).hasFeature(featureType);
+  }
+
+  /**
+   * Adds a feature to a cave for this session only.
+   *
+   * @param roomId      room ID of the cave
+   * @param featureType feature to add
+   * @throws IllegalArgumentException if the room is not a cave of the maze
+   */
+  public void addFeature(int roomId, FeatureType featureType) {
+    checkCave(roomId);
+    getDelta(removedFeatures, featureType).clear(roomId);
+    if (!hasFeature(roomId, featureType)) {
+      getDelta(addedFeatures, featureType).set(roomId);
+    }
+  }
+
+  /**
+   * Removes a feature from a cave for this session only.
+   *
+   * @param roomId      room ID of the cave
+   * @param featureType feature to remove
+   * @throws IllegalArgumentException if the room is not a cave of the maze
+   */
+  public void removeFeature(int roomId, FeatureType featureType) {
+    checkCave(roomId);
+    getDelta(addedFeatures, featureType).clear(roomId);
+    if (hasFeature(roomId, featureType)) {
+      getDelta(removedFeatures, featureType).set(roomId);
+    }
+  }
+
+  /**
+   * Returns the features of a cave in this session, in the form used by {@link Room#getFeatures}.
+   * The map holds every feature a cave of the maze can have and every feature added to this cave.
+   *
+   * @param roomId room ID of the cave
+   * @return map from the features to whether the cave has them
+   * @throws IllegalArgumentException if the room is not a cave of the maze
+   */
+  public Map<FeatureType, Boolean> getFeatures(int roomId) {
+    checkCave(roomId);
+    Map<FeatureType, Boolean> features = new EnumMap<>(FeatureType.class);
+    for (FeatureType featureType : maze.getRoomById(roomId).getFeatures().keySet()) {
+      features.put(featureType, hasFeature(roomId, featureType));
+    }
+    for (FeatureType featureType : addedFeatures.keySet()) {
+      if (contains(addedFeatures, featureType, roomId)) {
+        features.put(featureType, true);
+      }
+    }
+    return features;
+  }
+
+  /**
+   * Returns the smell of a cave in this session, coming from the features the adjacent caves have
+   * in this session.
+   *
+   * @param roomId room ID of the cave
+   * @return smell of the cave
+   * @throws IllegalArgumentException if the room is not a cave of the maze
+   */
+  public Smell getSmell(int roomId) {
+    checkCave(roomId);
+    if (addedFeatures.isEmpty() && removedFeatures.isEmpty()) {
+      return maze.getRoomById(roomId).getSmellDetails();
+    }
+    CorridorGraph corridorGraph = maze.getCorridorGraph();
+    int smellMask = 0;
+    for (Direction direction : DIRECTIONS) {
+      int cave = corridorGraph.getAdjacentCaveId(roomId, direction);
+      if (cave >= 0) {
+        for (FeatureType featureType : FEATURE_TYPES) {
+          int bit = Smell.mask(featureType);
+          if ((bit & Smell.SMELLING_FEATURES) != 0 && hasFeature(cave, featureType)) {
+            smellMask |= bit;
+          }
+        }
+      }
+    }
+    return Smell.of(smellMask);
+  }
+
+  private boolean contains(Map<FeatureType, BitSet> delta, FeatureType featureType, int roomId) {
+    BitSet rooms = delta.get(featureType);
+    return rooms != null && rooms.get(roomId);
+  }
+
+  private BitSet getDelta(Map<FeatureType, BitSet> delta, FeatureType featureType) {
+    return delta.computeIfAbsent(featureType, type -> new BitSet());
+  }
+
+  private void checkRoom(int roomId) {
+    if (roomId < 0 || roomId >= maze.getCountRooms()) {
+      throw new IllegalArgumentException("Room not found");
+    }
+  }
+
+  private void checkCave(int roomId) {
+    checkRoom(roomId);
+    if (!maze.getRoomById(roomId).isCave()) {
+      throw new IllegalArgumentException("Room is a tunnel, not a cave");
+    }
+  }
+}
@@ -12,6 +12,8 @@ public class GameWumpus extends AbstractGame {
   private boolean playerDead;
   private boolean playerWon;
   private int randomSeed;
+  //message shown on entering every room, built once for the theme of the game
+  private String searchMessage;
 
   /**
    * Constructor for game class.
@@ -52,6 +54,11 @@ public class GameWumpus extends AbstractGame {
     return validNextPositions;
   }
 
+  @Override
+  protected int getRoomIdInDirection(int roomId, Direction direction) {
+    return getMaze().getCorridorGraph().getAdjacentCaveId(roomId, direction);
+  }
+
   @Override
   public boolean isOver() {
     for (InterfacePlayer player : getAllPlayers()) {
@@ -80,7 +87,12 @@ public class GameWumpus extends AbstractGame {
     distance++; //distance of 0 would indicate your own cell
     String arrow = getTheme().getFeatureMappingForTheme().get(FeatureType.ARROW).toString();
     String wumpus = getTheme().getFeatureMappingForTheme().get(FeatureType.WUMPUS).toString();
-    if (getPlayerById(getActivePlayerNumber()).useArrow(direction, distance)) {
+    //the wumpus may have been removed or added in this game only, so the session is asked
+    Room arrowLandingRoom = getPlayerById(getActivePlayerNumber()).shootArrow(direction, distance);
+    if (arrowLandingRoom != null
+                && getSession().hasFeature(arrowLandingRoom.getRoomId(), FeatureType.WUMPUS)) {
+      getSession().removeFeature(arrowLandingRoom.getRoomId(), FeatureType.WUMPUS);
+      addRoomToUpdate(arrowLandingRoom.getRoomId());
       playerWon = true;
       getPlayerById(getActivePlayerNumber()).setHasWon(true);
       setLatestMessageForPlayer("You successfully destroyed the " + wumpus + ", you won!!!");
@@ -98,15 +110,21 @@ public class GameWumpus extends AbstractGame {
 
   @Override
   public void enterRoom(Room room, Random random) {
+    GameSession session = getSession();
+    int roomId = room.getRoomId();
 
-    String wumpus = getTheme().getFeatureMappingForTheme().get(FeatureType.WUMPUS).toString();
-    setLatestMessageForPlayer("Let us try to find " + wumpus);
-    if (room.getFeatures().get(FeatureType.WUMPUS)) {
+    if (searchMessage == null) {
+      String wumpus = getTheme().getFeatureMappingForTheme().get(FeatureType.WUMPUS).toString();
+      searchMessage = "Let us try to find " + wumpus;
+    }
+    setLatestMessageForPlayer(searchMessage);
+    if (session.hasFeature(roomId, FeatureType.WUMPUS)) {
       enterRoomWithWumpus();
       return;
     }
 
-    if (room.getFeatures().get(FeatureType.PIT) && room.getFeatures().get(FeatureType.BAT)) {
+    if (session.hasFeature(roomId, FeatureType.PIT)
+                && session.hasFeature(roomId, FeatureType.BAT)) {
       Boolean transportFlag = enterRoomWithBat(random);
       if (!transportFlag) {
         enterRoomWithPit();
@@ -114,11 +132,11 @@ public class GameWumpus extends AbstractGame {
       return;
     }
 
-    if (room.getFeatures().get(FeatureType.BAT)) {
+    if (session.hasFeature(roomId, FeatureType.BAT)) {
       enterRoomWithBat(random);
     }
 
-    if (room.getFeatures().get(FeatureType.PIT)) {
+    if (session.hasFeature(roomId, FeatureType.PIT)) {
       enterRoomWithPit();
     }
 
@@ -129,19 +147,22 @@ public class GameWumpus extends AbstractGame {
     String bat = getTheme().getFeatureMappingForTheme().get(FeatureType.BAT).toString();
 
     if (transportFlag) {
+      List<Room> caves = getMaze().getAllCaves();
       boolean foundRoom = false;
+      //rooms of a compact maze are created on demand, so caves are told apart by their IDs
+      int batCave = getPlayerById(getActivePlayerNumber()).getRoom().getRoomId();
       int rand;
 
       while (!foundRoom) {
-        rand = random.nextInt(getMaze().getAllCaves().size());
-        Room randomCave = getMaze().getAllCaves().get(rand);
+        rand = random.nextInt(caves.size());
+        Room randomCave = caves.get(rand);
 
         // if the same room is not selected
-        if (randomCave != getPlayerById(getActivePlayerNumber()).getRoom()) {
-          //getRoomNumbersToUpdate().add(randomCave.getRoomId());
+        if (randomCave.getRoomId() != batCave) {
+          //both the cave of the bats and the cave the player is dropped in change their icons
+          addRoomToUpdate(batCave);
           getPlayerById(getActivePlayerNumber()).setRoom(randomCave);
-          getBatRoomsVisited().add(getPlayerById(getActivePlayerNumber()).getRoom().getRoomId());
-          getBatRoomsVisited().add(randomCave.getRoomId());
+          addRoomToUpdate(randomCave.getRoomId());
           enterRoom(randomCave, random);
           setLatestMessageForPlayer(bat + "s transported you to " + randomCave.getRoomId());
           foundRoom = true;
@@ -0,0 +1,16 @@
+package maze.model;
+
+/**
+ * Algorithms that can be used for removing the inside walls of a maze. All of them create a
+ * spanning tree over the rooms, but they differ in speed and in the texture of the corridors,
+ * which decides how many rooms end up as caves and how many as tunnels.
+ */
+public enum GeneratorType {
+  PRIMS,
+  KRUSKALS,
+  RECURSIVE_BACKTRACKER,
+  WILSONS,
+  ALDOUS_BRODER,
+  ELLERS,
+  PARALLEL_TILED
+}
@@ -0,0 +1,246 @@
+package maze.model;
+
+/**
+ * Neighbourhood of the rooms in a row*column grid, either planar or toroidal. Neighbours are found
+ * with one lookup in small tables holding the offset from a room to its neighbour for every column
+ * (east and west) and every row (north and south), so no caller needs its own branches for the
+ * last column, the last row or the wrapping case.
+ *
+ * <p>In a toroidal grid the rooms on opposite boundaries are neighbours, but only when the grid
+ * is at least three rooms wide (or tall). In a narrower grid they are already inside neighbours or
+ * the same room, so there is no wrapping edge between them.
+ *
+ * <p>Edges are encoded as room * 2 for the edge to the east of a room and room * 2 + 1 for the edge
+ * to the south, so every edge has exactly one code.
+ */
+public class GridTopology {
+  private static final int NONE = Integer.MIN_VALUE;
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final int row;
+  private final int col;
+  private final int countRooms;
+  private final boolean toroidal;
+  //offset from a room to its neighbour, by column for east and west and by row for north and south
+  private final int[] eastOffsets;
+  private final int[] westOffsets;
+  private final int[] northOffsets;
+  private final int[] southOffsets;
+
+  private GridTopology(int row, int col, boolean toroidal) {
+    if (row < 0 || col < 0) {
+      throw new IllegalArgumentException("Rows and columns cannot be negative");
+    }
+    this.row = row;
+    this.col = col;
+    this.countRooms = row * col;
+    this.toroidal = toroidal;
+    boolean wrapColumns = toroidal && col > 2;
+    boolean wrapRows = toroidal && row > 2;
+
+    this.eastOffsets = new int[col];
+    this.westOffsets = new int[col];
+    for (int c = 0; c < col; c++) {
+      eastOffsets[c] = c < col - 1 ? 1 : wrapColumns ? 1 - col : NONE;
+      westOffsets[c] = c > 0 ? -1 : wrapColumns ? col - 1 : NONE;
+    }
+    this.northOffsets = new int[row];
+    this.southOffsets = new int[row];
+    for (int r = 0; r < row; r++) {
+      northOffsets[r] = r > 0 ? -col : wrapRows ? (row - 1) * col : NONE;
+      southOffsets[r] = r < row - 1 ? col : wrapRows ? (1 - row) * col : NONE;
+    }
+  }
+
+  /**
+   * Creates a grid whose boundary rooms have no neighbours beyond the boundary.
+   *
+   * @param row number of rows in the grid
+   * @param col number of columns in the grid
+   * @return planar grid
+   */
+  public static GridTopology planar(int row, int col) {
+    return new GridTopology(row, col, false);
+  }
+
+  /**
+   * Creates a grid whose boundary rooms are neighbours of the rooms on the opposite boundary.
+   *
+   * @param row number of rows in the grid
+   * @param col number of columns in the grid
+   * @return toroidal grid
+   */
+  public static GridTopology toroidal(int row, int col) {
+    return new GridTopology(row, col, true);
+  }
+
+  public int getRow() {
+    return row;
+  }
+
+  public int getCol() {
+    return col;
+  }
+
+  public int getCountRooms() {
+    return countRooms;
+  }
+
+  public boolean isToroidal() {
+    return toroidal;
+  }
+
+  /**
+   * Returns the room next to a room in a direction.
+   *
+   * @param room      room ID
+   * @param direction direction of the neighbour
+   * @return ID of the neighbouring room, or -1 if there is none in that direction
+   */
+  public int getNeighbour(int room, Direction direction) {
+    int r = room / col;
+    int offset;
+    switch (direction) {
+      case EAST:
+        offset = eastOffsets[room - r * col];
+        break;
+      case WEST:
+        offset = westOffsets[room - r * col];
+        break;
+      case NORTH:
+        offset = northOffsets[r];
+        break;
+      default:
+        offset = southOffsets[r];
+        break;
+    }
+    return offset == NONE ? -1 : room + offset;
+  }
+
+  /**
+   * Returns whether a room has a neighbour in a direction.
+   *
+   * @param room      room ID
+   * @param direction direction of the neighbour
+   * @return true if there is a neighbour in that direction
+   */
+  public boolean hasNeighbour(int room, Direction direction) {
+    return getNeighbour(room, direction) >= 0;
+  }
+
+  /**
+   * Returns the direction in which room2 lies when seen from room1.
+   *
+   * @param room1 first room
+   * @param room2 second room
+   * @return direction from room1 to room2, or null if the rooms are not neighbours
+   * @throws IllegalArgumentException if a room is not in the grid
+   */
+  public Direction getDirectionBetween(int room1, int room2) {
+    if (room1 < 0 || room1 >= countRooms || room2 < 0 || room2 >= countRooms) {
+      throw new IllegalArgumentException("Room not found");
+    }
+    for (Direction direction : DIRECTIONS) {
+      if (room1 != room2 && getNeighbour(room1, direction) == room2) {
+        return direction;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the code of the edge between two neighbouring rooms.
+   *
+   * @param room1 first room
+   * @param room2 second room
+   * @return code of the edge, or -1 if the rooms are not neighbours
+   * @throws IllegalArgumentException if a room is not in the grid
+   */
+  public int getEdgeBetween(int room1, int room2) {
+    Direction direction = getDirectionBetween(room1, room2);
+    if (direction == null) {
+      return -1;
+    }
+    switch (direction) {
+      case EAST:
+        return room1 << 1;
+      case WEST:
+        return room2 << 1;
+      case SOUTH:
+        return (room1 << 1) | 1;
+      default:
+        return (room2 << 1) | 1;
+    }
+  }
+
+  /**
+   * Returns the room an edge belongs to, which is the room to its west or north.
+   *
+   * @param edge code of the edge
+   * @return room ID
+   */
+  public static int getEdgeRoom(int edge) {
+    return edge >> 1;
+  }
+
+  /**
+   * Returns the direction of an edge from the room it belongs to.
+   *
+   * @param edge code of the edge
+   * @return EAST or SOUTH
+   */
+  public static Direction getEdgeDirection(int edge) {
+    return (edge & 1) == 0 ? Direction.EAST : Direction.SOUTH;
+  }
+
+  /**
+   * Returns whether an edge joins rooms on opposite boundaries of the grid.
+   *
+   * @param edge code of the edge
+   * @return true if the edge is a wrapping edge
+   */
+  public boolean isWrappingEdge(int edge) {
+    int room = edge >> 1;
+    return (edge & 1) == 0 ? room % col == col - 1 : room / col == row - 1;
+  }
+
+  /**
+   * Returns the number of edges in the grid.
+   *
+   * @return number of edges
+   */
+  public int getCountEdges() {
+    int countEdges = 0;
+    for (int c = 0; c < col; c++) {
+      countEdges += eastOffsets[c] == NONE ? 0 : row;
+    }
+    for (int r = 0; r < row; r++) {
+      countEdges += southOffsets[r] == NONE ? 0 : col;
+    }
+    return countEdges;
+  }
+
+  /**
+   * Returns the codes of all edges of the grid, in the order of the rooms they belong to and the
+   * edge to the east of a room before the one to its south.
+   *
+   * @return codes of all edges
+   */
+  public int[] getEdges() {
+    int[] edges = new int[getCountEdges()];
+    int countEdges = 0;
+    for (int r = 0; r < row; r++) {
+      boolean hasSouth = southOffsets[r] != NONE;
+      int room = r * col;
+      for (int c = 0; c < col; c++, room++) {
+        if (eastOffsets[c] != NONE) {
+          edges[countEdges++] = room << 1;
+        }
+        if (hasSouth) {
+          edges[countEdges++] = (room << 1) | 1;
+        }
+      }
+    }
+    return edges;
+  }
+}
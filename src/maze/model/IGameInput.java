@@ -24,6 +24,18 @@ public interface IGameInput {
   boolean isPerfect();
 
 
+  /**
+   * Returns the algorithm used for generating the maze.
+   * @return algorithm used for generating the maze
+   */
+  GeneratorType getGeneratorType();
+
+  /**
+   * Sets the algorithm used for generating the maze.
+   * @param generatorType algorithm used for generating the maze
+   */
+  void setGeneratorType(GeneratorType generatorType);
+
   /**
    * Get number of rows in input.
    * @return number of rows in input
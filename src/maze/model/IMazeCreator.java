@@ -17,4 +17,12 @@ public interface IMazeCreator {
    * @return the created maze
    */
   public InterfaceMaze generateMazeFromCorrectInput(IGameInput gameInput);
+
+  /**
+   * Generates the maze using Maze Builder methods, supplied game input and the given seed.
+   * @param gameInput input for the game
+   * @param randomSeed seed for generating the maze
+   * @return the created maze
+   */
+  public InterfaceMaze generateMazeFromCorrectInput(IGameInput gameInput, int randomSeed);
 }
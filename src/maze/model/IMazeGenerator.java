@@ -0,0 +1,26 @@
+package maze.model;
+
+import java.util.Random;
+
+/**
+ * Interface for an algorithm that removes the inside walls of a maze grid so that there is exactly
+ * one path between any two rooms.
+ */
+public interface IMazeGenerator {
+
+  /**
+   * Demolishes walls in the topology until all the rooms form a spanning tree.
+   *
+   * @param topology wall topology of the maze, with all walls still standing
+   * @param wrapping true if wrapping walls may be demolished as part of the tree
+   * @param random   random object to randomly pick the walls to remove
+   */
+  void generate(WallTopology topology, boolean wrapping, Random random);
+
+  /**
+   * Returns the type of algorithm implemented by this generator.
+   *
+   * @return type of algorithm
+   */
+  GeneratorType getGeneratorType();
+}
@@ -0,0 +1,21 @@
+package maze.model;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renders the layout of a maze as text. Renderers write the maze row by row to the given writer
+ * and never build the whole picture in memory, so that huge mazes can be streamed to a file. The
+ * writer should be buffered, renderers do not flush or close it.
+ */
+public interface IMazeRenderer {
+
+  /**
+   * Writes the maze to the writer.
+   *
+   * @param maze   maze to render
+   * @param writer destination of the rendered maze
+   * @throws IOException if writing fails
+   */
+  void render(InterfaceMaze maze, Writer writer) throws IOException;
+}
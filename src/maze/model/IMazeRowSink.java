@@ -0,0 +1,21 @@
+package maze.model;
+
+import java.io.IOException;
+
+/**
+ * Receiver for the rows of a maze that is generated one row at a time.
+ */
+public interface IMazeRowSink {
+
+  /**
+   * Accepts the openings of every room in a completed row. The opening of a room has bit
+   * (1 &lt;&lt; direction.ordinal()) set when there is a path in that direction, the same layout as
+   * used by {@link WallTopology}. The array is reused for the next row, so it is only valid for
+   * the duration of the call.
+   *
+   * @param rowNumber number of the row, starting from 0
+   * @param openings  openings of every room in the row, indexed by column
+   * @throws IOException if the row cannot be stored
+   */
+  void acceptRow(int rowNumber, byte[] openings) throws IOException;
+}
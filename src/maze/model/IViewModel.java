@@ -172,10 +172,11 @@ public interface IViewModel {
   Set<Integer> getVisitedTunnelsRoomNumbers();
 
   /**
-   * Returns the room numbers to be updated on the maze view.
-   * @return room numbers to be updated on the maze view
+   * Takes the next room to be updated on the maze view. Rooms changed by the moves are kept until
+   * the view takes them, each room once, so the view calls this until no room is left.
+   * @return room number to be updated on the maze view, or -1 if all rooms are up to date
    */
-  Set<Integer> getRoomNumbersToUpdate();
+  int pollRoomToUpdate();
 
   /**
    * Returns the error message to be updated on the maze view.
@@ -39,6 +39,7 @@ public interface InterfaceMaze {
    *
    * @param random   random object to randomly add the features
    * @param features the features which needs to be added to the maze
+   * @throws FeaturePlacementException if there are not enough caves for a feature
    */
   void addFeatures(Map<FeatureType, Integer> features, Random random);
 
@@ -50,11 +51,22 @@ public interface InterfaceMaze {
   void removeInsideWalls(Random random);
 
   /**
-   * Removes additional inside walls to create a path in imperfect maze.
+   * Removes inside walls to create a path using the given generation algorithm.
    *
-   * @param more more edges to remove to match remaining
+   * @param random    random object to randomly remove walls
+   * @param generator algorithm deciding which walls to remove
    */
-  void removeAdditionalInsideWalls(int more);
+  void removeInsideWalls(Random random, IMazeGenerator generator);
+
+  /**
+   * Removes additional inside walls, each chosen uniformly at random among the standing inside
+   * walls, to create a path in imperfect maze.
+   *
+   * @param random random object to choose the walls to remove
+   * @param more   more edges to remove to match remaining
+   * @throws IllegalArgumentException if fewer inside walls are standing than requested
+   */
+  void removeAdditionalInsideWalls(Random random, int more);
 
   /**
    * Removes wrapping walls to create a wrapping maze.
@@ -62,6 +74,7 @@ public interface InterfaceMaze {
    * @param random                   random object to randomly remove specified number of wrapping
    *                                 walls
    * @param numWrappingWallsToRemove number of boundary walls to remove
+   * @throws IllegalArgumentException if fewer wrapping walls are standing than requested
    */
   void removeWrappingWalls(Random random, int numWrappingWallsToRemove);
 
@@ -73,12 +86,37 @@ public interface InterfaceMaze {
   int getCountRooms();
 
   /**
-   * Returns adjacency matrix of all rooms where 1 indicates a path and 0 indicates a wall.
+   * Returns adjacency matrix of all rooms where 1 indicates a path and 0 indicates a wall. The
+   * matrix is built from the wall topology on every call and needs countRooms * countRooms
+   * entries, so it is only kept for compatibility with small mazes.
    *
    * @return adjacency matrix of all rooms
    */
   int[][] getGridAdjMatrix();
 
+  /**
+   * Returns the wall topology holding the openings of every room in the maze.
+   *
+   * @return wall topology of the maze
+   */
+  WallTopology getWallTopology();
+
+  /**
+   * Returns the graph of the corridors between the caves of the maze. The graph is empty until the
+   * caves and tunnels have been assigned when adding the features.
+   *
+   * @return corridor graph of the maze
+   */
+  CorridorGraph getCorridorGraph();
+
+  /**
+   * Returns the distances between the caves of the maze, whose fields are cached until the
+   * corridor graph is rebuilt.
+   *
+   * @return distance fields of the maze
+   */
+  CaveDistanceField getCaveDistances();
+
   /**
    * Returns total rows in the maze.
    *
@@ -130,10 +168,21 @@ public interface InterfaceMaze {
   Set<int[]> getAllWallsInMaze();
 
   /**
-   * Verifies if all the required constraints in the maze have been created.
+   * Verifies if all the required constraints in the maze have been created. Nothing is printed,
+   * a maze can be rendered with an {@link IMazeRenderer} instead.
+   *
+   * @throws IllegalStateException if the validation report of the maze has problems
    */
   void finishMazeCreation();
 
+  /**
+   * Checks in a single pass that every room is reachable from every other room and that every
+   * feature was added to the expected number of caves.
+   *
+   * @return report of the checks, listing the problems found
+   */
+  MazeValidationReport validate();
+
   /**
    * Updates this player's cave position to a random cave in the maze.
    *
@@ -142,6 +191,15 @@ public interface InterfaceMaze {
   public void transportPlayerByBats(Random random);
 
 
+  /**
+   * Returns the room with specified ID from the room index of the maze.
+   *
+   * @param roomId room ID
+   * @return room object
+   * @throws IllegalArgumentException if there is no room with the ID
+   */
+  Room getRoomById(int roomId);
+
   /**
    * Returns the room with specified ID.
    *
@@ -152,12 +210,20 @@ public interface InterfaceMaze {
   Room getRoomById(int roomId, List<Room> roomsList);
 
   /**
-   * Returns list of all caves.
+   * Returns read-only list of all caves, ordered by their room IDs.
    *
    * @return list of all caves
    */
   List<Room> getAllCaves();
 
+  /**
+   * Returns list of all caves having the specified feature, ordered by their room IDs.
+   *
+   * @param featureType feature to look for
+   * @return list of caves with the feature
+   */
+  List<Room> getCavesWithFeature(FeatureType featureType);
+
 
   /**
    * In a multi-player mode, assigns all the players randomly in the maze.
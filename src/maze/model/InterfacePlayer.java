@@ -26,6 +26,16 @@ public interface InterfacePlayer {
    */
   public boolean useArrow(Direction direction, int distance);
 
+  /**
+   * Uses a arrow and returns the cave it lands in, leaving it to the game to decide what the arrow
+   * hits there.
+   *
+   * @param direction direction in which weapon is thrown
+   * @param distance  distance for which the weapon will travel
+   * @return cave in which the arrow lands, or null if the arrow was blocked by a wall
+   */
+  public Room shootArrow(Direction direction, int distance);
+
   /**
    * Updates this player's gold value by 100.
    */
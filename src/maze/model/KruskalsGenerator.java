@@ -0,0 +1,45 @@
+package maze.model;
+
+import java.util.Random;
+
+/**
+ * Generator that shuffles all the edges of the grid and demolishes every wall that joins two
+ * rooms which are not connected yet, as in randomized Kruskal's algorithm. Connectivity is tracked
+ * with a union-find over a primitive array. The resulting maze has many short branches.
+ */
+public class KruskalsGenerator extends AbstractMazeGenerator {
+
+  @Override
+  public void generate(WallTopology topology, boolean wrapping, Random random) {
+    int countRooms = topology.getCountRooms();
+    //every edge is the wall to the east or to the south of a room, see GridTopology
+    int[] edges = topology.getGrid(wrapping).getEdges();
+    shuffle(edges, random);
+
+    UnionFind sets = new UnionFind(countRooms);
+
+    int removed = 0;
+    for (int k = 0; k < edges.length && removed < countRooms - 1; k++) {
+      int room = GridTopology.getEdgeRoom(edges[k]);
+      Direction direction = GridTopology.getEdgeDirection(edges[k]);
+      if (sets.union(room, topology.getNeighbour(room, direction))) {
+        topology.open(room, direction);
+        removed++;
+      }
+    }
+  }
+
+  @Override
+  public GeneratorType getGeneratorType() {
+    return GeneratorType.KRUSKALS;
+  }
+
+  private static void shuffle(int[] edges, Random random) {
+    for (int i = edges.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int temp = edges[i];
+      edges[i] = edges[j];
+      edges[j] = temp;
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package maze.model;
+
+import java.util.Map;
+
+/**
+ * Room object linked to the room objects around it while the maze is built. Only caves and
+ * tunnels stored as objects are linked this way; the rooms of a compact maze follow its wall
+ * topology and corridor graph instead.
+ */
+interface LinkableRoom extends MutableRoom {
+
+  /**
+   * Sets all the allowed moves to another room in a specific direction.
+   *
+   * @param possibleMoves mapping between room and another room in given direction
+   */
+  void setPossibleMoves(Map<Direction, Room> possibleMoves);
+
+  /**
+   * Adds another room in a given direction.
+   *
+   * @param direction direction in which room needs to be added
+   * @param room      room that needs to be added
+   */
+  void addRoomInDirection(Direction direction, Room room);
+
+  /**
+   * Adds a cave adjacent to a given cave.
+   *
+   * @param direction direction in which given cave is adjacent
+   * @param cave      cave that is adjacent
+   */
+  void addAdjacentCave(Direction direction, Room cave);
+
+  /**
+   * Adds a connecting tunnel in a given direction.
+   *
+   * @param direction direction
+   * @param tunnel    tunnel
+   */
+  void addAdjacentTunnel(Direction direction, Room tunnel);
+}
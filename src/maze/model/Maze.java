@@ -1,6 +1,7 @@
 package maze.model;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -17,19 +18,23 @@ import java.util.Set;
  * random) have a thief that takes some of the player's gold coins
  */
 public abstract class Maze implements InterfaceMaze {
+  private static final Direction[] DIRECTIONS = Direction.values();
+
   private Player player;
 
-  //adjacency matrix represents wall relation between all the rooms in the maze
-  //gridAdjMatrix[room1][room2] = 1 indicates there is a path and gridAdjMatrix[room1][room2] = 0
-  //indicates there is a wall
-  private final int[][] gridAdjMatrix;
-  private final List<Room> rooms;
+  //bit-packed openings of every room, a set bit indicates there is a path in that direction and
+  //an unset bit indicates there is a wall
+  private final WallTopology topology;
+  private List<Room> rooms;
+  private boolean compactRooms;
+  private RoomIndex roomIndex;
+  private CorridorGraph corridorGraph;
+  private final CaveDistanceField caveDistances;
 
   private final int countRooms;
   private final int row;
   private final int col;
   private final boolean wrappingFlag;
-  private final int minWallsRemovalRequired;
   private Map<FeatureType, Integer> applicableFeatures;
 
   /**
@@ -44,55 +49,64 @@ public abstract class Maze implements InterfaceMaze {
     this.col = col;
     this.wrappingFlag = wrappingFlag;
     this.countRooms = row * col;
-    this.gridAdjMatrix = new int[countRooms][countRooms];
+    this.topology = new WallTopology(row, col);
     this.rooms = new ArrayList<>();
-    this.minWallsRemovalRequired = countRooms - 1;
+    this.roomIndex = new RoomIndex(rooms);
+    this.corridorGraph = new CorridorGraph(topology, roomIndex);
+    this.caveDistances = new CaveDistanceField(this);
     this.applicableFeatures = new HashMap<>();
   }
 
   //Methods to mutate the maze object
   @Override
   public void wallDemolish(int i, int j) {
-    gridAdjMatrix[i][j] = 1;
-    gridAdjMatrix[j][i] = 1;
+    topology.open(i, j);
   }
 
   @Override
   public Set<int[]> getAllWallsInMaze() {
     Set<int[]> walls = new HashSet<>();
 
-    int[][] gridAdjMatrix = this.getGridAdjMatrix();
-    for (int i = 0; i < gridAdjMatrix.length; i++) {
-      int[] edge = new int[2];
-
-      //for all rooms except belonging to last column in the grid
-      if ((i + 1) % this.getCol() != 0 || i == 0) {
-        if (gridAdjMatrix[i][i + 1] == 0) { //edge exists
-          edge[0] = i;
-          edge[1] = i + 1;
-          walls.add(edge);
-        }
-      }
-
-      //for all rooms except belonging to last row in the grid
-      if (i < this.getCountRooms() - this.getCol()) {
-        if (gridAdjMatrix[i][i + this.getCol()] == 0) { //edge exists
-          edge[0] = i;
-          edge[1] = i + this.getCol();
-          walls.add(edge);
-        }
+    //only inside walls are listed, so the edges of the planar grid are checked
+    GridTopology grid = topology.getGrid(false);
+    for (int edge : grid.getEdges()) {
+      int room = GridTopology.getEdgeRoom(edge);
+      Direction direction = GridTopology.getEdgeDirection(edge);
+      if (!topology.isOpen(room, direction)) {
+        walls.add(new int[]{room, grid.getNeighbour(room, direction)});
       }
     }
     return walls;
   }
 
+  /**
+   * Keeps the rooms of this maze in parallel primitive arrays and creates the room objects on
+   * demand, see {@link CompactRoomStore}. Must be called before the caves and tunnels are
+   * assigned.
+   *
+   * @throws IllegalStateException if the caves and tunnels have already been assigned
+   */
+  void useCompactRooms() {
+    if (rooms.size() != 0) {
+      throw new IllegalStateException("Rooms have already been created");
+    }
+    compactRooms = true;
+  }
+
   private void assignCavesAndTunnels() {
-    int[] countDoorsFromRoom = getCountDoorsFromRoom();
-    List<Room> roomsUnderConstruction = new ArrayList<>();
+    if (compactRooms) {
+      CompactRoomStore store = new CompactRoomStore(topology);
+      this.rooms = store.getRooms();
+      this.roomIndex = store.getRoomIndex();
+      this.corridorGraph = store.getCorridorGraph();
+      return;
+    }
+
+    List<AbstractRoom> roomsUnderConstruction = new ArrayList<>();
     int caveNum = 0;
     for (int i = 0; i < countRooms; i++) { // add all rooms to the maze
-      Room room;
-      if (countDoorsFromRoom[i] == 2) {
+      AbstractRoom room;
+      if (topology.getCountDoors(i) == 2) {
         room = new Tunnel(i);
       } else {
         room = new Cave(i, "C" + caveNum);
@@ -101,114 +115,38 @@ public abstract class Maze implements InterfaceMaze {
       roomsUnderConstruction.add(room);
     }
 
-    Room room1;
-    Room room2;
-    int[][] gridAdjMatrix = this.getGridAdjMatrix();
-
-    for (int i = 0; i < gridAdjMatrix.length; i++) {
-
-      //for all rooms except belonging to last column in the grid
-      if ((i + 1) % this.getCol() != 0 || i == 0) {
-        if (gridAdjMatrix[i][i + 1] == 1) { //path exists
-          room1 = getRoomById(i, roomsUnderConstruction);
-          room2 = getRoomById(i + 1, roomsUnderConstruction);
-          room1.addRoomInDirection(Direction.EAST, room2);
-          room2.addRoomInDirection(Direction.WEST, room1);
-        }
-      } else { //last column
-        if (gridAdjMatrix[i][i - (this.getCol() - 1)] == 1) {
-          room1 = getRoomById(i, roomsUnderConstruction);
-          room2 = getRoomById(i - (this.getCol() - 1), roomsUnderConstruction);
-          room1.addRoomInDirection(Direction.EAST, room2);
-          room2.addRoomInDirection(Direction.WEST, room1);
-        }
-      }
-
-      //for all rooms except belonging to last row in the grid
-      if (i < this.getCountRooms() - this.getCol()) {
-        if (gridAdjMatrix[i][i + this.getCol()] == 1) { //path exists
-          room1 = getRoomById(i, roomsUnderConstruction);
-          room2 = getRoomById(i + this.getCol(), roomsUnderConstruction);
-          room1.addRoomInDirection(Direction.SOUTH, room2);
-          room2.addRoomInDirection(Direction.NORTH, room1);
-        }
-      } else { //last row
-        if (gridAdjMatrix[i][i - ((this.getRow() - 1) * this.getCol())] == 1) {
-          room1 = getRoomById(i, roomsUnderConstruction);
-          room2 = getRoomById(i - ((this.getRow() - 1) * this.getCol()), roomsUnderConstruction);
-          room1.addRoomInDirection(Direction.SOUTH, room2);
-          room2.addRoomInDirection(Direction.NORTH, room1);
+    //rooms are added in the order of their IDs, so a room can be looked up by its index
+    for (int i = 0; i < countRooms; i++) {
+      AbstractRoom room = roomsUnderConstruction.get(i);
+      for (Direction direction : DIRECTIONS) {
+        if (topology.isOpen(i, direction)) {
+          room.addRoomInDirection(direction,
+                  roomsUnderConstruction.get(topology.getNeighbour(i, direction)));
         }
       }
     }
 
     this.rooms.addAll(roomsUnderConstruction);
-    getAdjacentCaves();
-  }
-
-  private int[] getCountDoorsFromRoom() {
-    int[] countDoors = new int[countRooms];
-
-    for (int i = 0; i < gridAdjMatrix.length; i++) {
+    this.roomIndex = new RoomIndex(rooms);
 
-      //for all rooms except belonging to last column in the grid
-      if ((i + 1) % this.getCol() != 0 || i == 0) {
-        if (gridAdjMatrix[i][i + 1] == 1) { //path exists
-          countDoors[i]++;
-          countDoors[i + 1]++;
-        }
-      } else { //last column
-        if (gridAdjMatrix[i][i - (this.getCol() - 1)] == 1) {
-          countDoors[i]++;
-          countDoors[i - (this.getCol() - 1)]++;
-        }
-      }
-
-      //for all rooms except belonging to last row in the grid
-      if (i < this.getCountRooms() - this.getCol()) {
-        if (gridAdjMatrix[i][i + this.getCol()] == 1) { //path exists
-          countDoors[i]++;
-          countDoors[i + this.getCol()]++;
-        }
-      } else { //last row
-        if (gridAdjMatrix[i][i - ((this.getRow() - 1) * this.getCol())] == 1) {
-          countDoors[i]++;
-          countDoors[i - ((this.getRow() - 1) * this.getCol())]++;
-        }
-      }
+    //every chain of tunnels is walked once and collapsed into an edge between two caves
+    this.corridorGraph = new CorridorGraph(topology, roomIndex);
+    for (Room cave : getAllCaves()) {
+      ((Cave) cave).setCorridorGraph(corridorGraph);
+      ((Cave) cave).setRoomIndex(roomIndex);
     }
-    return countDoors;
-
   }
 
-  private void getAdjacentCaves() {
-    Map<Direction, Room> nextMoves;
-    Room adj;
-    for (Room cave : getAllCaves()) { // for every cave
-      nextMoves = cave.getPossibleMoves();
-      for (Direction direction : nextMoves.keySet()) {
-        // if it is a tunnel, move ahead until cave is found
-        if (!nextMoves.get(direction).isCave()) { //if current room is tunnel
-          Room tunnel = nextMoves.get(direction);
-
-          List<Room> connectingTunnels = tunnel.findAllConnectingTunnels(direction);
-          if (connectingTunnels != null && connectingTunnels.size() != 0) {
-            for (Room connectingTunnel : connectingTunnels) {
-              cave.addAdjacentTunnel(direction, connectingTunnel);
-            }
-          }
-
-          adj = tunnel.findCaveAtDistance(direction, 1); //if next room is cave
-          cave.addAdjacentCave(direction, adj);
-        } else {
-          cave.addAdjacentCave(direction, nextMoves.get(direction));
-        }
-      }
-    }
+  @Override
+  public Room getRoomById(int roomId) {
+    return roomIndex.getRoom(roomId);
   }
 
   @Override
   public Room getRoomById(int roomId, List<Room> roomsList) {
+    if (roomsList == rooms) {
+      return roomIndex.getRoom(roomId);
+    }
     for (Room room : roomsList) {
       if (room.getRoomId() == roomId) {
         return room;
@@ -225,65 +163,96 @@ public abstract class Maze implements InterfaceMaze {
     applicableFeatures = features;
 
     assignCavesAndTunnels();
-    List<Room> caves = getAllCaves();
 
     if (features.containsKey(FeatureType.WUMPUS)) {
-      addFeatureHelper(FeatureType.WUMPUS, 1, caves, random);
+      addFeatureHelper(FeatureType.WUMPUS, 1, random);
     }
     for (FeatureType featureType : features.keySet()) {
       if (featureType != FeatureType.WUMPUS) {
-        addFeatureHelper(featureType, features.get(featureType), caves, random);
+        addFeatureHelper(featureType, features.get(featureType), random);
       }
     }
   }
 
-  private void addFeatureHelper(FeatureType featureType, int percentage, List<Room> caves,
-                                Random random) {
+  private void addFeatureHelper(FeatureType featureType, int percentage, Random random) {
+    int countCaves = roomIndex.getCaves().size();
     if (featureType == FeatureType.WUMPUS) {
-      caves.get(random.nextInt(caves.size())).addNewFeature(featureType);
+      if (countCaves == 0) {
+        throw new FeaturePlacementException(featureType, 1, 0);
+      }
+      roomIndex.addFeature(random.nextInt(countCaves), featureType);
     } else {
-      int numCavesToAddFeature = (int) Math.round(caves.size() * (float) percentage / 100);
+      int numCavesToAddFeature = (int) Math.round(countCaves * (float) percentage / 100);
+
+      // caves which neither have the feature we are trying to assign nor the wumpus
+      int[] eligibleCaves = new int[countCaves];
+      int countEligible = 0;
+      for (int i = 0; i < countCaves; i++) {
+        if (!roomIndex.hasFeature(i, featureType)
+                    && !roomIndex.hasFeature(i, FeatureType.WUMPUS)) {
+          eligibleCaves[countEligible++] = i;
+        }
+      }
+      if (numCavesToAddFeature > countEligible) {
+        throw new FeaturePlacementException(featureType, numCavesToAddFeature, countEligible);
+      }
 
+      // shuffle only the prefix of eligible caves that receives the feature
       for (int i = 0; i < numCavesToAddFeature; i++) {
-        boolean foundRoom = false;
-        int rand;
-
-        while (!foundRoom) {
-          rand = random.nextInt(caves.size());
-
-          // if room does not already has the feature we are trying to assign
-          if (!caves.get(rand).getFeatures().get(featureType)) {
-            if (!caves.get(rand).getFeatures().get(FeatureType.WUMPUS)) {
-              caves.get(rand).addNewFeature(featureType);
-              foundRoom = true;
-            }
-          }
+        int rand = i + random.nextInt(countEligible - i);
+        int cave = eligibleCaves[rand];
+        eligibleCaves[rand] = eligibleCaves[i];
+        eligibleCaves[i] = cave;
+        roomIndex.addFeature(cave, featureType);
+      }
+    }
+  }
+
+  /**
+   * Assigns the caves and tunnels of a maze whose walls have been restored from a file, and adds
+   * the stored features to their rooms.
+   *
+   * @param featureRooms IDs of the rooms having each feature
+   * @throws IllegalArgumentException if a feature is stored for a tunnel
+   */
+  void restoreFeatures(Map<FeatureType, int[]> featureRooms) {
+    assignCavesAndTunnels();
+    for (Map.Entry<FeatureType, int[]> feature : featureRooms.entrySet()) {
+      for (int roomId : feature.getValue()) {
+        int caveNumber = roomIndex.getCaveNumber(roomId);
+        if (caveNumber < 0) {
+          throw new IllegalArgumentException("Room " + roomId + " is a tunnel and cannot have "
+                                                     + feature.getKey());
         }
+        roomIndex.addFeature(caveNumber, feature.getKey());
       }
     }
   }
 
   @Override
   public List<Room> getAllCaves() {
-    List<Room> caves = new ArrayList<>();
-    for (Room room : this.rooms) {
-      if (room.isCave()) {
-        caves.add(room);
-      }
-    }
-    return caves;
+    return roomIndex.getCaves();
+  }
+
+  @Override
+  public List<Room> getCavesWithFeature(FeatureType featureType) {
+    return roomIndex.getCavesWithFeature(featureType);
   }
 
   @Override
   public void removeInsideWalls(Random random) {
-    int[] parent = applyPrims(random);
-    for (int i = 0; i < countRooms; i++) {
-      this.wallDemolish(parent[i], i);
-    }
+    removeInsideWalls(random, new PrimsGenerator());
   }
 
   @Override
-  public void removeAdditionalInsideWalls(int numWallsToRemove) {
+  public void removeInsideWalls(Random random, IMazeGenerator generator) {
+    //wrapping walls are part of the spanning tree only for a perfect maze, an imperfect maze
+    //removes them separately
+    generator.generate(topology, this.getWrappingFlag() && this.equalsPerfect(), random);
+  }
+
+  @Override
+  public void removeAdditionalInsideWalls(Random random, int numWallsToRemove) {
     if (this.equalsPerfect()) {
       throw new IllegalStateException();
     }
@@ -299,14 +268,14 @@ public abstract class Maze implements InterfaceMaze {
   //Assigns player to a maze
   @Override
   public void assignPlayer(Player player, int start) {
-    Room room = getRoomById(start, rooms);
+    Room room = getRoomById(start);
     if (!room.isCave()) {
       throw new IllegalArgumentException("Player cannot start in a tunnel");
     }
     this.player = player;
     this.player.setRoom(room);
 
-    if (this.player.getRoom().getFeatures().get(FeatureType.GOLD)) {
+    if (this.player.getRoom().hasFeature(FeatureType.GOLD)) {
       this.player.collectGold();
     }
   }
@@ -315,6 +284,7 @@ public abstract class Maze implements InterfaceMaze {
   public void assignMultiplePlayersRandomStartPositions(List<InterfacePlayer> players,
                                                         int randomSeed) {
     Random random = new Random(randomSeed);
+    List<Room> caves = getAllCaves();
     int start;
     boolean foundStart;
     Set<Integer> uniqueStartPositions = new HashSet<>();
@@ -322,14 +292,13 @@ public abstract class Maze implements InterfaceMaze {
     for (InterfacePlayer player : players) {
       foundStart = false;
       while (!foundStart) { //repeat until we don't find a start location
-        start = random.nextInt(getAllCaves().size());
-        Map<FeatureType, Boolean> features = getAllCaves().get(start).getFeatures();
-        if (!features.get(FeatureType.WUMPUS) && !features.get(FeatureType.BAT)
-                    && !features.get(FeatureType.PIT)) {
+        start = random.nextInt(caves.size());
+        if (!roomIndex.hasFeature(start, FeatureType.WUMPUS)
+                    && !roomIndex.hasFeature(start, FeatureType.BAT)
+                    && !roomIndex.hasFeature(start, FeatureType.PIT)) {
           if (!uniqueStartPositions.contains(start)) {
             foundStart = true;
-            player.setRoom(getAllCaves().get(start));
-            getAllCaves().get(start).setVisited();
+            player.setRoom(caves.get(start));
             uniqueStartPositions.add(start);
             player.setIsDead(false); // initialization
             player.setHasWon(false);
@@ -341,41 +310,71 @@ public abstract class Maze implements InterfaceMaze {
 
   @Override
   public void transportPlayerByBats(Random random) {
-    int caveNumber = random.nextInt(getAllCaves().size());
-    int roomNumber = getAllCaves().get(caveNumber).getRoomId();
-    player.setRoom(getRoomById(roomNumber, rooms));
+    List<Room> caves = getAllCaves();
+    player.setRoom(caves.get(random.nextInt(caves.size())));
   }
 
   @Override
-  public void finishMazeCreation() {
-    int maxEdges = row * (col - 1) + col * (row - 1); //might change if wrapping is applied
-
-    if (!this.wrappingFlag && this.getAllWallsInMaze().size() > maxEdges - (row * col - 1)) {
-      System.out.println("Path does not exist as walls are too many");
-      throw new IllegalStateException();
+  public MazeValidationReport validate() {
+    //every room is connected to its east and south neighbours through the open walls
+    UnionFind components = new UnionFind(countRooms);
+    int countCaves = 0;
+    Map<FeatureType, Integer> featureCounts = new EnumMap<>(FeatureType.class);
+    for (int room = 0; room < countRooms; room++) {
+      if (topology.isOpen(room, Direction.EAST)) {
+        components.union(room, topology.getNeighbour(room, Direction.EAST));
+      }
+      if (topology.isOpen(room, Direction.SOUTH)) {
+        components.union(room, topology.getNeighbour(room, Direction.SOUTH));
+      }
+    }
+    for (Room room : roomIndex.getCaves()) {
+      countCaves++;
+      for (FeatureType featureType : FeatureType.values()) {
+        if (room.hasFeature(featureType)) {
+          featureCounts.merge(featureType, 1, Integer::sum);
+        }
+      }
     }
 
-    int countCavesForFeature;
-    int expectedCavesForFeature;
+    List<String> problems = new ArrayList<>();
+    if (components.getCountSets() > 1) {
+      problems.add("Path does not exist between all rooms, found " + components.getCountSets()
+                           + " unconnected parts");
+    }
     for (FeatureType featureType : applicableFeatures.keySet()) {
+      int countCavesForFeature = featureCounts.getOrDefault(featureType, 0);
+      int expectedCavesForFeature;
       if (featureType.equals(FeatureType.WUMPUS)) {
-        if (getCavesWithFeature(FeatureType.WUMPUS).size() != 1) {
-          System.out.println("Wumpus is not present in one cave");
-          throw new IllegalStateException();
-        }
+        expectedCavesForFeature = 1;
       } else {
-        countCavesForFeature = getCavesWithFeature(featureType).size();
         expectedCavesForFeature = (int) Math.round(
-                getAllCaves().size() * (float) applicableFeatures.get(featureType) / 100);
-
-        if (countCavesForFeature != expectedCavesForFeature) {
-          System.out.println("Feature not added correctly -- " + featureType.toString());
-          throw new IllegalStateException();
-        }
+                countCaves * (float) applicableFeatures.get(featureType) / 100);
+      }
+      if (countCavesForFeature != expectedCavesForFeature) {
+        problems.add("Feature not added correctly -- " + featureType.toString() + ", expected "
+                             + expectedCavesForFeature + " caves but found "
+                             + countCavesForFeature);
+      }
+    }
+    for (FeatureType featureType : FeatureType.values()) {
+      int countIndexed = roomIndex.getCountCavesWithFeature(featureType);
+      if (countIndexed != featureCounts.getOrDefault(featureType, 0)) {
+        problems.add("Feature index out of date -- " + featureType.toString() + ", indexed "
+                             + countIndexed + " caves but found "
+                             + featureCounts.getOrDefault(featureType, 0));
       }
     }
+    return new MazeValidationReport(countRooms, components.getCountSets(), countCaves,
+            featureCounts, problems);
+  }
 
-    printMaze();
+  @Override
+  public void finishMazeCreation() {
+    MazeValidationReport report = validate();
+    if (!report.isValid()) {
+      throw new IllegalStateException(String.join("; ", report.getProblems()));
+    }
   }
 
   //Helper methods and getters
@@ -391,7 +390,22 @@ public abstract class Maze implements InterfaceMaze {
 
   @Override
   public int[][] getGridAdjMatrix() {
-    return gridAdjMatrix;
+    return topology.toAdjacencyMatrix();
+  }
+
+  @Override
+  public WallTopology getWallTopology() {
+    return topology;
+  }
+
+  @Override
+  public CorridorGraph getCorridorGraph() {
+    return corridorGraph;
+  }
+
+  @Override
+  public CaveDistanceField getCaveDistances() {
+    return caveDistances;
   }
 
   @Override
@@ -419,225 +433,8 @@ public abstract class Maze implements InterfaceMaze {
     return player;
   }
 
-
-  // Methods to randomly assign weight to edges and apply Prims to find a MST.
-  private int[][] assignRandomWeightToEdges(Random random) {
-
-    int row = this.getRow();
-    int column = this.getCol();
-    int countRooms = this.getCountRooms();
-    int[][] randomGridWeight = new int[countRooms][countRooms];
-
-    if (this.getWrappingFlag() && this.equalsPerfect()) {
-      int room1;
-      int room2;
-
-      for (int rowNumber = 0; rowNumber < row; rowNumber++) {
-        room1 = rowNumber * column;
-        room2 = room1 + column - 1;
-        randomGridWeight[room1][room2] = random.nextInt(countRooms * 3) + 1;
-      }
-
-      for (int colNumber = 0; colNumber < column; colNumber++) {
-        room1 = colNumber;
-        room2 = room1 + (row - 1) * column;
-        randomGridWeight[room1][room2] = random.nextInt(countRooms * 3) + 1;
-      }
-    }
-
-    for (int i = 0; i < countRooms; i++) {
-      if ((i + 1) % column != 0 || i == 0) { //for all rooms except ones in last column in the grid
-        randomGridWeight[i][i + 1] = random.nextInt(countRooms * 3) + 1;
-      }
-
-      if (i < countRooms - column) { //for all rooms except belonging to last row in the grid
-        randomGridWeight[i][i + column] = random.nextInt(countRooms * 3) + 1;
-      }
-    }
-    return randomGridWeight;
-  }
-
-  private int[] applyPrims(Random random) {
-    int[][] randomGridWeight = assignRandomWeightToEdges(random);
-    //printRandomGridWeight(randomGridWeight);
-    int[] parent = new int[countRooms];
-    int[] weight = new int[countRooms];
-
-    boolean[] visited = new boolean[countRooms];
-
-    for (int i = 0; i < countRooms; i++) {
-      weight[i] = Integer.MAX_VALUE;
-      parent[i] = Integer.MAX_VALUE;
-    }
-    weight[0] = 0;
-    parent[0] = 0;
-
-    int min;
-    int nextNode;
-    for (int i = 0; i < minWallsRemovalRequired; i++) {
-      min = Integer.MAX_VALUE;
-      nextNode = -1;
-
-      for (int j = 0; j < countRooms; j++) {
-        if (!visited[j] && weight[j] < min) {
-          min = weight[j];
-          nextNode = j;
-        }
-      }
-
-      visited[nextNode] = true;
-      for (int j = 0; j < countRooms; j++) {
-        if (!visited[j] && randomGridWeight[nextNode][j] != 0
-                    && randomGridWeight[nextNode][j] < weight[j]) {
-          weight[j] = randomGridWeight[nextNode][j];
-          parent[j] = nextNode;
-        } else if (!visited[j] && randomGridWeight[j][nextNode] != 0
-                           && randomGridWeight[j][nextNode] < weight[j]) {
-          weight[j] = randomGridWeight[j][nextNode];
-          parent[j] = nextNode;
-        }
-      }
-    }
-
-    return parent;
-  }
-
-  // Methods to print the maze on screen
-  protected void printMaze() {
-    //    System.out.println("Final connections between all rooms are as follows:");
-    //    for (int[] adjMatrix : gridAdjMatrix) {
-    //      for (int n = 0; n < gridAdjMatrix[0].length; n++) {
-    //        System.out.print(adjMatrix[n] + "\t");
-    //      }
-    //      System.out.println();
-    //    }
-    //    System.out.println("\n");
-
-    System.out.println("Maze is wrapping " + this.getWrappingFlag());
-    System.out.println("Rooms look like:");
-    printHorizontalBoundary();
-    for (int i = 0; i < countRooms; i = i + col) {
-      printVerticalWalls(i);
-      printHorizontalWalls(i);
-    }
-
-    for (FeatureType featureType : applicableFeatures.keySet()) {
-      printCavesWithFeature(featureType);
-    }
-
-    //printAllRooms();
-    //printAllCavesWithAdjCaves();
-
-    System.out.println();
-  }
-
-  private void printAllRooms() {
-    StringBuilder stringBuilder = new StringBuilder();
-    for (Room room : rooms) {
-      stringBuilder.append(room.getRoomId()).append("--");
-      if (room.isCave()) {
-        stringBuilder.append("cave--");
-      } else {
-        stringBuilder.append("tunnel--");
-      }
-      for (Direction direction : room.getPossibleMoves().keySet()) {
-        stringBuilder.append(direction).append(":").append(room.getPossibleMoves().get(direction)
-                                                                   .getRoomId());
-      }
-      stringBuilder.append("\n");
-    }
-    System.out.println(stringBuilder.toString());
-  }
-
-  private List<Room> getCavesWithFeature(FeatureType featureType) {
-    List<Room> caves = getAllCaves();
-    List<Room> cavesWithFeature = new ArrayList<>();
-    for (Room cave : caves) {
-      if (cave.getFeatures().get(featureType)) {
-        cavesWithFeature.add(cave);
-      }
-    }
-    return cavesWithFeature;
-  }
-
   @Override
   public List<Room> getRooms() {
     return rooms;
   }
-
-  private void printCavesWithFeature(FeatureType featureType) {
-    List<Room> cavesWithFeature = getCavesWithFeature(featureType);
-    System.out.println("Rooms with " + featureType.toString());
-    for (Room room : cavesWithFeature) {
-      System.out.print(room.getRoomId() + " ");
-    }
-    System.out.println();
-  }
-
-  private void printHorizontalWalls(int index) {
-    if (index >= (row - 1) * col) { //the last row
-      printHorizontalBoundary();
-    } else {
-      for (int count = index; count <= index + col - 1; count++) {
-        if (gridAdjMatrix[count][count + col] == 0) {
-          System.out.print("__\t");
-        } else {
-          System.out.print("\t");
-        }
-        if ((count + 1) % col == 0) { //move to next row
-          System.out.print("\n");
-        }
-      }
-    }
-  }
-
-  private void printHorizontalBoundary() {
-    int countRoomsOtherThanLastRow = (row - 1) * col;
-    for (int count = 0; count <= col - 1; count++) {
-      if (gridAdjMatrix[count][count + countRoomsOtherThanLastRow] == 0) {
-        System.out.print("__\t");
-      } else {
-        System.out.print("\t");
-      }
-    }
-    System.out.println();
-  }
-
-  private void printVerticalBoundary(int index) {
-    if (index % col == 0) { //first element in the row
-      if (gridAdjMatrix[index][index + col - 1] == 0) { //indicates a wall
-        System.out.print("|");
-      } else {
-        System.out.print(" ");
-      }
-    } else if ((index + 1) % col == 0) { //last element in the row
-      if (gridAdjMatrix[index - (col - 1)][index] == 0) { //indicates a wall
-        System.out.print("|");
-      } else {
-        System.out.print(" ");
-      }
-    }
-
-  }
-
-  private void printVerticalWalls(int index) {
-    for (int count = index; count <= index + col - 1; count++) {
-      if (count % col == 0) { //first room in the row
-        printVerticalBoundary(count);
-      }
-
-      System.out.print(count + "\t"); //print room number
-      if ((count + 1) % col == 0) { //last room in the row move to next row
-        printVerticalBoundary(count);
-        System.out.print("\n");
-      } else {
-        if (gridAdjMatrix[count][count + 1] == 0) { //indicates a wall
-          System.out.print("|");
-        } else {
-          System.out.print(" ");
-        }
-      }
-    }
-  }
-
 }
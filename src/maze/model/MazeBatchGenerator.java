@@ -0,0 +1,81 @@
+package maze.model;
+
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates many mazes of the same configuration, one for every seed in a range, for building
+ * seed catalogs and regression corpora. Mazes are generated in parallel on all cores and nothing
+ * is printed. Only a small result is kept for every seed, so a batch of any size runs in the
+ * memory of a few mazes.
+ */
+public class MazeBatchGenerator {
+  private final IGameInput template;
+
+  /**
+   * Constructor for the batch generator. The template must not be changed while a batch is being
+   * generated.
+   *
+   * @param template input every maze of a batch is generated from
+   * @throws IllegalArgumentException if the template is not valid input for a maze
+   */
+  public MazeBatchGenerator(IGameInput template) {
+    if (template == null) {
+      throw new IllegalArgumentException("No game input provided");
+    }
+    String message = new MazeCreator().verifyInputForMazeCreation(template);
+    if (!message.equals("success")) {
+      throw new IllegalArgumentException(message);
+    }
+    this.template = template;
+  }
+
+  /**
+   * Returns a parallel stream generating a maze for every seed from fromSeed up to but not
+   * including toSeed. The mazes are generated as the stream is consumed.
+   *
+   * @param fromSeed first seed of the batch
+   * @param toSeed   seed after the last seed of the batch
+   * @return stream of the results of every seed
+   * @throws IllegalArgumentException if fromSeed is greater than toSeed
+   */
+  public Stream<MazeBatchResult> generate(int fromSeed, int toSeed) {
+    if (fromSeed > toSeed) {
+      throw new IllegalArgumentException("Seed range " + fromSeed + " to " + toSeed
+                                                 + " is empty");
+    }
+    return IntStream.range(fromSeed, toSeed).parallel().mapToObj(this::generate);
+  }
+
+  /**
+   * Generates a maze for every seed from fromSeed up to but not including toSeed and hands the
+   * result of every seed to the callback. The callback is called from several threads at once and
+   * in no particular order of seeds.
+   *
+   * @param fromSeed first seed of the batch
+   * @param toSeed   seed after the last seed of the batch
+   * @param callback receives the result of every seed
+   * @throws IllegalArgumentException if fromSeed is greater than toSeed
+   */
+  public void generate(int fromSeed, int toSeed, Consumer<MazeBatchResult> callback) {
+    generate(fromSeed, toSeed).forEach(callback);
+  }
+
+  /**
+   * Generates, validates and analyses the maze for one seed.
+   *
+   * @param seed seed for generating the maze
+   * @return result of the seed
+   */
+  public MazeBatchResult generate(int seed) {
+    try {
+      InterfaceMaze maze = MazeCreator.build(template, seed);
+      return MazeBatchResult.generated(seed, MazeSnapshot.of(maze).getFingerprint(),
+              maze.validate(), MazeStatistics.of(maze));
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      return MazeBatchResult.failed(seed, e.getMessage() == null ? e.getClass().getSimpleName()
+                                                                 : e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package maze.model;
+
+/**
+ * Outcome of generating one maze of a batch: the seed it was generated with and either the
+ * fingerprint, validation report and statistics of the maze, or the reason it could not be
+ * generated.
+ */
+public class MazeBatchResult {
+  private final int seed;
+  private final long fingerprint;
+  private final MazeValidationReport report;
+  private final MazeStatistics statistics;
+  private final String error;
+
+  private MazeBatchResult(int seed, long fingerprint, MazeValidationReport report,
+                          MazeStatistics statistics, String error) {
+    this.seed = seed;
+    this.fingerprint = fingerprint;
+    this.report = report;
+    this.statistics = statistics;
+    this.error = error;
+  }
+
+  static MazeBatchResult generated(int seed, long fingerprint, MazeValidationReport report,
+                                   MazeStatistics statistics) {
+    return new MazeBatchResult(seed, fingerprint, report, statistics, null);
+  }
+
+  static MazeBatchResult failed(int seed, String error) {
+    return new MazeBatchResult(seed, 0, null, null, error);
+  }
+
+  public int getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns whether the maze could be generated.
+   *
+   * @return true if the maze was generated, even if it is not valid
+   */
+  public boolean isGenerated() {
+    return report != null;
+  }
+
+  /**
+   * Returns whether the maze was generated and passed validation.
+   *
+   * @return true if the maze is valid
+   */
+  public boolean isValid() {
+    return report != null && report.isValid();
+  }
+
+  /**
+   * Returns the fingerprint of the maze, see {@link MazeSnapshot#getFingerprint()}.
+   *
+   * @return fingerprint of the maze, or 0 if it could not be generated
+   */
+  public long getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Returns the report of validating the maze, which also holds the counts of its caves and
+   * features.
+   *
+   * @return validation report, or null if the maze could not be generated
+   */
+  public MazeValidationReport getReport() {
+    return report;
+  }
+
+  /**
+   * Returns the statistics of the maze used for analysing its difficulty.
+   *
+   * @return statistics of the maze, or null if it could not be generated
+   */
+  public MazeStatistics getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * Returns why the maze could not be generated.
+   *
+   * @return message of the failure, or null if the maze was generated
+   */
+  public String getError() {
+    return error;
+  }
+
+  @Override
+  public String toString() {
+    if (!isGenerated()) {
+      return "MazeBatchResult{seed=" + seed + ", error='" + error + "'}";
+    }
+    return "MazeBatchResult{seed=" + seed + ", fingerprint=" + Long.toHexString(fingerprint)
+                   + ", valid=" + isValid() + "}";
+  }
+}
@@ -1,5 +1,8 @@
 package maze.model;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
 import java.util.Random;
 
@@ -13,10 +16,13 @@ public class MazeBuilder {
   private InterfaceMaze maze;
   private final boolean wrappingFlag;
   private final int maxEdges;
+  private final IMazeGenerator generator;
+  private IMazeRenderer renderer;
+  private Writer rendererWriter;
   public Random random;
 
   /**
-   * Constructor for the maze builder class.
+   * Constructor for the maze builder class. Inside walls are removed using Prim's algorithm.
    *
    * @param row          number of rows in the required maze
    * @param column       number of columns in the required maze
@@ -24,9 +30,31 @@ public class MazeBuilder {
    * @param wrappingFlag true if maze is expected to be wrapping, false otherwise
    */
   public MazeBuilder(int row, int column, MazeType mazeType, boolean wrappingFlag, int seed) {
+    this(row, column, mazeType, wrappingFlag, seed, GeneratorType.PRIMS);
+  }
+
+  /**
+   * Constructor for the maze builder class.
+   *
+   * @param row           number of rows in the required maze
+   * @param column        number of columns in the required maze
+   * @param mazeType      mazeType of the required maze
+   * @param wrappingFlag  true if maze is expected to be wrapping, false otherwise
+   * @param generatorType algorithm used for removing the inside walls
+   * @throws IllegalArgumentException if Eller's algorithm is asked for a maze that wraps between
+   *                                  the last and the first row
+   */
+  public MazeBuilder(int row, int column, MazeType mazeType, boolean wrappingFlag, int seed,
+                     GeneratorType generatorType) {
     if (row < 0 || column < 0) {
       throw new IllegalArgumentException();
     }
+    if (generatorType == null) {
+      throw new IllegalArgumentException("No generator provided");
+    }
+    if (generatorType == GeneratorType.ELLERS && wrappingFlag && row > 2) {
+      throw new IllegalArgumentException("Eller's algorithm cannot wrap between rows");
+    }
 
     this.random = new Random(seed);
     int countRooms = row * column;
@@ -39,19 +67,81 @@ public class MazeBuilder {
     } else if (mazeType == MazeType.IMPERFECT) {
       this.maze = new ImperfectMaze(row, column, wrappingFlag);
     }
+    this.generator = createGenerator(generatorType);
+  }
+
+  private IMazeGenerator createGenerator(GeneratorType generatorType) {
+    switch (generatorType) {
+      case KRUSKALS:
+        return new KruskalsGenerator();
+      case RECURSIVE_BACKTRACKER:
+        return new RecursiveBacktrackerGenerator();
+      case WILSONS:
+        return new WilsonsGenerator();
+      case ALDOUS_BRODER:
+        return new AldousBroderGenerator();
+      case ELLERS:
+        return new EllersGenerator();
+      case PARALLEL_TILED:
+        return new ParallelTiledGenerator();
+      default:
+        return new PrimsGenerator();
+    }
   }
 
   /**
-   * Builds the maze. Should be called when walls are removed, gold and thieves are assigned.
+   * Builds the maze. Should be called when walls are removed, gold and thieves are assigned. The
+   * maze is only rendered if a renderer was set with {@link #renderTo(IMazeRenderer, Writer)}.
    *
    * @return the well-built maze.
-   * @throws IllegalStateException when maze exists without removing walls, assigning gold or thief
+   * @throws IllegalStateException when maze exists without removing walls, assigning gold or thief,
+   *                               or when rendering the maze fails
    */
   public InterfaceMaze build() {
-    maze.finishMazeCreation(); //checks if maze is crated properly and prints a maze on the screen
+    maze.finishMazeCreation(); //checks if maze is crated properly
+
+    if (renderer != null) {
+      try {
+        renderer.render(maze, rendererWriter);
+        rendererWriter.flush();
+      } catch (IOException e) {
+        throw new IllegalStateException("Maze could not be rendered", e);
+      }
+    }
     return maze;
   }
 
+  /**
+   * Renders the maze when it is built. The output is buffered and flushed once the maze has been
+   * rendered, but the writer is not closed.
+   *
+   * @param renderer format in which the maze is rendered
+   * @param writer   destination of the rendered maze
+   * @return this object
+   */
+  public MazeBuilder renderTo(IMazeRenderer renderer, Writer writer) {
+    if (renderer == null || writer == null) {
+      throw new IllegalArgumentException("No renderer or writer provided");
+    }
+    this.renderer = renderer;
+    this.rendererWriter = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+    return this;
+  }
+
+  /**
+   * Keeps the rooms of the maze in parallel primitive arrays instead of one object per room, which
+   * makes very large mazes take a fraction of the memory. The rooms handed out by the maze are
+   * then created on demand, so the same room is equal but not identical across lookups. Must be
+   * called before the features are added.
+   *
+   * @return this object
+   * @throws IllegalStateException if the features have already been added
+   */
+  public MazeBuilder compactRooms() {
+    ((Maze) maze).useCompactRooms();
+    return this;
+  }
+
   /**
    * Removes boundary walls to make the maze a wrapping one.
    *
@@ -77,7 +167,7 @@ public class MazeBuilder {
     if (!maze.equalsPerfect()) {
       throw new IllegalStateException();
     }
-    this.maze.removeInsideWalls(random);
+    this.maze.removeInsideWalls(random, generator);
     return this;
   }
 
@@ -100,12 +190,12 @@ public class MazeBuilder {
     }
 
     //Removes minimum edges for a path to exist.
-    this.maze.removeInsideWalls(random);
+    this.maze.removeInsideWalls(random, generator);
 
     //Removes additional edges so that we only have remainingWalls in the maze.
     int more = maxEdges - minWallsRemovalRequired - remainingWalls;
     if (more > 0) {
-      this.maze.removeAdditionalInsideWalls(more);
+      this.maze.removeAdditionalInsideWalls(random, more);
     }
 
     return this;
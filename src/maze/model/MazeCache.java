@@ -0,0 +1,209 @@
+package maze.model;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Least recently used cache of generated mazes, keyed by the parameters the maze was generated
+ * with. Every hit hands out the cached maze itself, so restarting a game neither generates nor
+ * copies the maze. Games only read the maze and keep their own state in a {@link GameSession},
+ * so any number of games can share a cached maze. The building steps of {@link InterfaceMaze}
+ * must not be called on a maze once it is cached.
+ *
+ * <p>The size of the cache is bounded by the total number of rooms over all mazes, so a few large
+ * mazes evict as many small ones as needed. Mazes are also held through soft references and may
+ * be dropped by the garbage collector when memory runs low.
+ */
+public class MazeCache {
+  private final long maxRooms;
+  private final Map<Key, Entry> entries;
+  private final ReferenceQueue<InterfaceMaze> clearedMazes;
+  private long countRooms;
+  private long countHits;
+  private long countMisses;
+
+  /**
+   * Constructor for a cache holding mazes of at most the given total number of rooms.
+   *
+   * @param maxRooms maximum number of rooms over all cached mazes
+   * @throws IllegalArgumentException if the maximum is not positive
+   */
+  public MazeCache(long maxRooms) {
+    if (maxRooms <= 0) {
+      throw new IllegalArgumentException("Maximum number of rooms should be positive");
+    }
+    this.maxRooms = maxRooms;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    this.clearedMazes = new ReferenceQueue<>();
+  }
+
+  /**
+   * Returns the maze for the given key, generating and caching it if the key is not cached. The
+   * maze is generated outside the lock, so other keys can be looked up meanwhile.
+   *
+   * @param key       parameters the maze is generated with
+   * @param generator generates the maze on a miss, may return null if generation fails
+   * @return the maze shared by every game asking for the key, or null if the maze was not cached
+   *         and could not be generated
+   */
+  public InterfaceMaze getOrCreate(Key key, Supplier<InterfaceMaze> generator) {
+    InterfaceMaze cached = getMaze(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    InterfaceMaze maze = generator.get();
+    if (maze != null) {
+      put(key, maze);
+    }
+    return maze;
+  }
+
+  private synchronized InterfaceMaze getMaze(Key key) {
+    removeClearedEntries();
+    Entry entry = entries.get(key);
+    InterfaceMaze maze = entry == null ? null : entry.get();
+    if (maze == null) {
+      countMisses++;
+    } else {
+      countHits++;
+    }
+    return maze;
+  }
+
+  /**
+   * Adds a built maze to the cache, evicting the least recently used mazes until the total number
+   * of rooms is within the maximum. A maze larger than the maximum is not cached.
+   *
+   * @param key  parameters the maze was generated with
+   * @param maze built maze, which is only read from then on
+   */
+  public synchronized void put(Key key, InterfaceMaze maze) {
+    removeClearedEntries();
+    if (maze.getCountRooms() > maxRooms) {
+      return;
+    }
+    Entry previous = entries.put(key, new Entry(key, maze, clearedMazes));
+    if (previous != null) {
+      countRooms -= previous.countRooms;
+    }
+    countRooms += maze.getCountRooms();
+
+    Iterator<Entry> eldest = entries.values().iterator();
+    while (countRooms > maxRooms) {
+      countRooms -= eldest.next().countRooms;
+      eldest.remove();
+    }
+  }
+
+  private void removeClearedEntries() {
+    for (Object cleared = clearedMazes.poll(); cleared != null; cleared = clearedMazes.poll()) {
+      Entry entry = (Entry) cleared;
+      //the key may have been cached again since its maze was dropped
+      if (entries.get(entry.key) == entry) {
+        entries.remove(entry.key);
+        countRooms -= entry.countRooms;
+      }
+    }
+  }
+
+  /**
+   * Removes all mazes from the cache. The hit and miss counts are kept.
+   */
+  public synchronized void clear() {
+    entries.clear();
+    countRooms = 0;
+  }
+
+  public synchronized int getCountEntries() {
+    removeClearedEntries();
+    return entries.size();
+  }
+
+  public synchronized long getCountRooms() {
+    removeClearedEntries();
+    return countRooms;
+  }
+
+  public synchronized long getCountHits() {
+    return countHits;
+  }
+
+  public synchronized long getCountMisses() {
+    return countMisses;
+  }
+
+  /**
+   * Soft reference to a maze, remembering its key and size after the maze is dropped.
+   */
+  private static class Entry extends SoftReference<InterfaceMaze> {
+    private final Key key;
+    private final int countRooms;
+
+    Entry(Key key, InterfaceMaze maze, ReferenceQueue<InterfaceMaze> queue) {
+      super(maze, queue);
+      this.key = key;
+      this.countRooms = maze.getCountRooms();
+    }
+  }
+
+  /**
+   * Parameters a maze is generated with. Two keys are equal when they would generate the same maze.
+   */
+  public static class Key {
+    private final int rows;
+    private final int columns;
+    private final boolean perfect;
+    private final boolean wrapping;
+    private final int remainingWalls;
+    private final int percentBats;
+    private final int percentPits;
+    private final GeneratorType generatorType;
+    private final long seed;
+
+    /**
+     * Constructor for the key of a maze generated from the game input with the given seed.
+     *
+     * @param gameInput input for the game
+     * @param seed      seed the maze is generated with
+     */
+    public Key(IGameInput gameInput, long seed) {
+      this.rows = gameInput.getRows();
+      this.columns = gameInput.getColumns();
+      this.perfect = gameInput.isPerfect();
+      this.wrapping = gameInput.isWrapping();
+      //the remaining walls are ignored when generating a perfect maze
+      this.remainingWalls = perfect ? 0 : gameInput.getRemainingWalls();
+      this.percentBats = gameInput.getPercentBats();
+      this.percentPits = gameInput.getPercentPits();
+      this.generatorType = gameInput.getGeneratorType();
+      this.seed = seed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return rows == other.rows && columns == other.columns && perfect == other.perfect
+                     && wrapping == other.wrapping && remainingWalls == other.remainingWalls
+                     && percentBats == other.percentBats && percentPits == other.percentPits
+                     && generatorType == other.generatorType && seed == other.seed;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(rows, columns, perfect, wrapping, remainingWalls, percentBats,
+              percentPits, generatorType, seed);
+    }
+  }
+}
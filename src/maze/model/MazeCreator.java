@@ -7,6 +7,38 @@ import java.util.Map;
  * Class for creating a maze given the inputs.
  */
 public class MazeCreator implements IMazeCreator {
+  /**
+   * Seed used for generating a maze when no seed is given.
+   */
+  public static final int DEFAULT_SEED = 15000;
+  private static final long DEFAULT_CACHE_ROOMS = 1_000_000;
+  private static final MazeCache SHARED_CACHE = new MazeCache(DEFAULT_CACHE_ROOMS);
+
+  private final MazeCache cache;
+
+  /**
+   * Constructor for the maze creator sharing its cache of generated mazes with all other creators
+   * made by this constructor.
+   */
+  public MazeCreator() {
+    this(SHARED_CACHE);
+  }
+
+  /**
+   * Constructor for the maze creator using the given cache of generated mazes.
+   *
+   * @param cache cache of generated mazes
+   */
+  public MazeCreator(MazeCache cache) {
+    if (cache == null) {
+      throw new IllegalArgumentException("Cache cannot be null");
+    }
+    this.cache = cache;
+  }
+
+  public MazeCache getCache() {
+    return cache;
+  }
 
   @Override
   public String verifyInputForMazeCreation(IGameInput gameInput) {
@@ -48,10 +80,38 @@ public class MazeCreator implements IMazeCreator {
 
   @Override
   public InterfaceMaze generateMazeFromCorrectInput(IGameInput gameInput) {
+    return generateMazeFromCorrectInput(gameInput, DEFAULT_SEED);
+  }
+
+  @Override
+  public InterfaceMaze generateMazeFromCorrectInput(IGameInput gameInput, int randomSeed) {
     if (!verifyInputForMazeCreation(gameInput).equals("success")) {
       throw new IllegalArgumentException();
     }
 
+    return cache.getOrCreate(new MazeCache.Key(gameInput, randomSeed),
+            () -> buildMaze(gameInput, randomSeed));
+  }
+
+  private InterfaceMaze buildMaze(IGameInput gameInput, int randomSeed) {
+    try {
+      return build(gameInput, randomSeed);
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      System.out.println("Invalid arguments");
+      return null;
+    }
+  }
+
+  /**
+   * Builds the maze for valid game input with the given seed, without printing anything.
+   *
+   * @param gameInput  input for the game
+   * @param randomSeed seed for generating the maze
+   * @return the created maze
+   * @throws IllegalArgumentException if the maze cannot be built from the input
+   * @throws IllegalStateException    if the built maze is not valid
+   */
+  static InterfaceMaze build(IGameInput gameInput, int randomSeed) {
     //prepping the features associated with maze
     Map<FeatureType, Integer> featureMap = new HashMap<>();
 
@@ -59,44 +119,21 @@ public class MazeCreator implements IMazeCreator {
     featureMap.put(FeatureType.PIT, gameInput.getPercentPits());
     featureMap.put(FeatureType.WUMPUS, 1);
 
-    InterfaceMaze maze = null;
-    int randomSeed = 15000;
     int countRemoveWrappingWalls = 2;
 
+    MazeBuilder builder;
     if (gameInput.isPerfect()) {
-      try {
-        maze = new MazeBuilder(gameInput.getRows(), gameInput.getColumns(), MazeType.PERFECT,
-                gameInput.isWrapping(), randomSeed)
-                       .removeInsideWalls()
-                       .addFeatures(featureMap)
-                       .build();
-      } catch (IllegalArgumentException | IllegalStateException e) {
-        System.out.println("Invalid arguments");
-      }
+      builder = new MazeBuilder(gameInput.getRows(), gameInput.getColumns(), MazeType.PERFECT,
+              gameInput.isWrapping(), randomSeed, gameInput.getGeneratorType())
+                        .removeInsideWalls();
     } else {
+      builder = new MazeBuilder(gameInput.getRows(), gameInput.getColumns(), MazeType.IMPERFECT,
+              gameInput.isWrapping(), randomSeed, gameInput.getGeneratorType())
+                        .removeInsideWalls(gameInput.getRemainingWalls());
       if (gameInput.isWrapping()) {
-        try {
-          maze = new MazeBuilder(gameInput.getRows(), gameInput.getColumns(), MazeType.IMPERFECT,
-                  gameInput.isWrapping(), randomSeed)
-                         .removeInsideWalls(gameInput.getRemainingWalls())
-                         .removeWrappingWalls(countRemoveWrappingWalls)
-                         .addFeatures(featureMap)
-                         .build();
-        } catch (IllegalArgumentException | IllegalStateException e) {
-          System.out.println("Invalid arguments");
-        }
-      } else {
-        try {
-          maze = new MazeBuilder(gameInput.getRows(), gameInput.getColumns(), MazeType.IMPERFECT,
-                  gameInput.isWrapping(), randomSeed)
-                         .removeInsideWalls(gameInput.getRemainingWalls())
-                         .addFeatures(featureMap)
-                         .build();
-        } catch (IllegalArgumentException | IllegalStateException e) {
-          System.out.println("Invalid arguments");
-        }
+        builder.removeWrappingWalls(countRemoveWrappingWalls);
       }
     }
-    return maze;
+    return builder.addFeatures(featureMap).build();
   }
 }
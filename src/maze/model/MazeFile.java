@@ -0,0 +1,264 @@
+package maze.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versioned binary file holding a generated maze. The file is laid out as:
+ *
+ * <ul>
+ *   <li>a header of 32 bytes: magic number, version, rows, columns, wrapping flag, maze type,
+ *   two reserved bytes, the seed of the maze and the number of stored features</li>
+ *   <li>the ordinal of every stored feature type, one int each</li>
+ *   <li>the openings of every room, two rooms packed per byte row by row as written by
+ *   {@link MazeRowWriter}</li>
+ *   <li>for every stored feature a bit set over the room IDs, as (rooms + 63) / 64 longs</li>
+ * </ul>
+ *
+ * <p>Opening a file maps it into memory and only reads the header, so even a very large maze
+ * opens in constant time and the rest of the file is paged in as rooms are looked up.
+ */
+public class MazeFile {
+  private static final int MAGIC = 0x57554D50; //"WUMP"
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = 32;
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final MappedByteBuffer buffer;
+  private final int row;
+  private final int col;
+  private final boolean wrappingFlag;
+  private final MazeType mazeType;
+  private final long seed;
+  private final FeatureType[] featureTypes;
+  private final int openingsOffset;
+  private final int bitsetsOffset;
+
+  private MazeFile(MappedByteBuffer buffer) {
+    this.buffer = buffer;
+    if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException("Not a maze file");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IllegalArgumentException("Unsupported maze file version " + buffer.getInt(4));
+    }
+    this.row = buffer.getInt(8);
+    this.col = buffer.getInt(12);
+    this.wrappingFlag = buffer.get(16) != 0;
+    this.mazeType = getConstant(MazeType.values(), buffer.get(17));
+    this.seed = buffer.getLong(20);
+    int countFeatures = buffer.getInt(28);
+    if (row < 0 || col < 0 || countFeatures < 0 || countFeatures > FeatureType.values().length
+                || HEADER_BYTES + 4L * countFeatures > buffer.capacity()) {
+      throw new IllegalArgumentException("Maze file is corrupt");
+    }
+    this.featureTypes = new FeatureType[countFeatures];
+    for (int i = 0; i < countFeatures; i++) {
+      featureTypes[i] = getConstant(FeatureType.values(), buffer.getInt(HEADER_BYTES + 4 * i));
+    }
+
+    this.openingsOffset = HEADER_BYTES + 4 * countFeatures;
+    long openingsEnd = openingsOffset + (long) row * ((col + 1) / 2);
+    long expectedSize = openingsEnd + 8L * countFeatures * (((long) row * col + 63) / 64);
+    if (buffer.capacity() != expectedSize) {
+      throw new IllegalArgumentException("Maze file is truncated or corrupt");
+    }
+    this.bitsetsOffset = (int) openingsEnd;
+  }
+
+  private static <T> T getConstant(T[] constants, int ordinal) {
+    if (ordinal < 0 || ordinal >= constants.length) {
+      throw new IllegalArgumentException("Maze file is corrupt");
+    }
+    return constants[ordinal];
+  }
+
+  /**
+   * Writes a maze to a file, replacing the file if it exists.
+   *
+   * @param maze maze to write
+   * @param seed seed the maze was generated with
+   * @param path file to write
+   * @throws IOException if the file cannot be written
+   */
+  public static void write(InterfaceMaze maze, long seed, Path path) throws IOException {
+    WallTopology topology = maze.getWallTopology();
+    int countRooms = topology.getCountRooms();
+    List<FeatureType> storedFeatures = new ArrayList<>();
+    for (FeatureType featureType : FeatureType.values()) {
+      if (maze.getCavesWithFeature(featureType).size() != 0) {
+        storedFeatures.add(featureType);
+      }
+    }
+
+    try (OutputStream file = Files.newOutputStream(path)) {
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file));
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(topology.getRow());
+      out.writeInt(topology.getCol());
+      out.writeByte(maze.getWrappingFlag() ? 1 : 0);
+      out.writeByte(maze.equalsPerfect() ? MazeType.PERFECT.ordinal()
+                                         : MazeType.IMPERFECT.ordinal());
+      out.writeShort(0);
+      out.writeLong(seed);
+      out.writeInt(storedFeatures.size());
+      for (FeatureType featureType : storedFeatures) {
+        out.writeInt(featureType.ordinal());
+      }
+      out.flush();
+
+      //rows are packed by the row writer, which must not close the file before the bit sets
+      MazeRowWriter rowWriter = new MazeRowWriter(file, topology.getCol());
+      byte[] openings = new byte[topology.getCol()];
+      for (int r = 0; r < topology.getRow(); r++) {
+        for (int c = 0; c < topology.getCol(); c++) {
+          int openingsOfRoom = 0;
+          for (Direction direction : DIRECTIONS) {
+            if (topology.isOpen(r * topology.getCol() + c, direction)) {
+              openingsOfRoom |= direction.getBit();
+            }
+          }
+          openings[c] = (byte) openingsOfRoom;
+        }
+        rowWriter.acceptRow(r, openings);
+      }
+      rowWriter.flush();
+
+      for (FeatureType featureType : storedFeatures) {
+        long[] bits = new long[(countRooms + 63) / 64];
+        for (Room cave : maze.getCavesWithFeature(featureType)) {
+          bits[cave.getRoomId() >> 6] |= 1L << (cave.getRoomId() & 63);
+        }
+        for (long word : bits) {
+          out.writeLong(word);
+        }
+      }
+      out.flush();
+    }
+  }
+
+  /**
+   * Opens a maze file by mapping it into memory. Only the header is read.
+   *
+   * @param path file to open
+   * @return the opened maze file
+   * @throws IOException              if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a maze file of a supported version
+   */
+  public static MazeFile open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Maze file is too large to be mapped");
+      }
+      return new MazeFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  public int getRow() {
+    return row;
+  }
+
+  public int getCol() {
+    return col;
+  }
+
+  public boolean getWrappingFlag() {
+    return wrappingFlag;
+  }
+
+  public MazeType getMazeType() {
+    return mazeType;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns whether there is a path out of a room in the given direction, read straight from the
+   * mapped file.
+   *
+   * @param room      room ID
+   * @param direction direction to check
+   * @return true if the wall in that direction has been demolished
+   */
+  public boolean isOpen(int room, Direction direction) {
+    if (room < 0 || room >= row * col) {
+      throw new IllegalArgumentException("Room not found");
+    }
+    int c = room % col;
+    int packed = buffer.get(openingsOffset + (room / col) * ((col + 1) / 2) + c / 2);
+    int openings = (c % 2 == 0 ? packed : packed >> 4) & 0x0F;
+    return (openings & direction.getBit()) != 0;
+  }
+
+  /**
+   * Returns whether a room has a feature, read straight from the mapped file.
+   *
+   * @param room        room ID
+   * @param featureType feature to check
+   * @return true if the room has the feature
+   */
+  public boolean hasFeature(int room, FeatureType featureType) {
+    if (room < 0 || room >= row * col) {
+      throw new IllegalArgumentException("Room not found");
+    }
+    for (int i = 0; i < featureTypes.length; i++) {
+      if (featureTypes[i] == featureType) {
+        long word = buffer.getLong(bitsetsOffset + 8 * (i * getCountLongs() + (room >> 6)));
+        return (word & (1L << (room & 63))) != 0;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Loads the whole maze, including its caves, tunnels, adjacent caves and features.
+   *
+   * @return the loaded maze
+   */
+  public InterfaceMaze toMaze() {
+    Maze maze = mazeType == MazeType.PERFECT ? new PerfectMaze(row, col, wrappingFlag)
+                                             : new ImperfectMaze(row, col, wrappingFlag);
+    WallTopology topology = maze.getWallTopology();
+    for (int room = 0; room < row * col; room++) {
+      if (isOpen(room, Direction.EAST)) {
+        topology.open(room, Direction.EAST);
+      }
+      if (isOpen(room, Direction.SOUTH)) {
+        topology.open(room, Direction.SOUTH);
+      }
+    }
+
+    Map<FeatureType, int[]> featureRooms = new EnumMap<>(FeatureType.class);
+    for (int i = 0; i < featureTypes.length; i++) {
+      List<Integer> rooms = new ArrayList<>();
+      for (int w = 0; w < getCountLongs(); w++) {
+        long word = buffer.getLong(bitsetsOffset + 8 * (i * getCountLongs() + w));
+        while (word != 0) {
+          rooms.add(w * 64 + Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+      featureRooms.put(featureTypes[i], rooms.stream().mapToInt(Integer::intValue).toArray());
+    }
+    maze.restoreFeatures(featureRooms);
+    return maze;
+  }
+
+  private int getCountLongs() {
+    return (row * col + 63) / 64;
+  }
+}
@@ -0,0 +1,146 @@
+package maze.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Generates mazes on a pool of worker threads before they are asked for, so that starting a game
+ * with a predicted configuration does not wait for the maze to be generated. Predicted mazes are
+ * kept in a small queue of ready or pending mazes. Once the queue is full, predicting another maze
+ * cancels the oldest prediction, so the memory held by the predictions stays bounded.
+ */
+public class MazePregenerator {
+  private final IMazeCreator mazeCreator;
+  private final int maxReady;
+  private final ExecutorService workers;
+  private final Map<MazeCache.Key, Future<InterfaceMaze>> ready;
+
+  /**
+   * Constructor for the pre-generator.
+   *
+   * @param mazeCreator  creator generating the mazes
+   * @param countThreads number of worker threads
+   * @param maxReady     maximum number of ready or pending mazes
+   * @throws IllegalArgumentException if the number of threads or ready mazes is not positive
+   */
+  public MazePregenerator(IMazeCreator mazeCreator, int countThreads, int maxReady) {
+    if (mazeCreator == null) {
+      throw new IllegalArgumentException("Maze creator cannot be null");
+    }
+    if (countThreads <= 0 || maxReady <= 0) {
+      throw new IllegalArgumentException("Number of threads and ready mazes should be positive");
+    }
+    this.mazeCreator = mazeCreator;
+    this.maxReady = maxReady;
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+      //pending predictions must never keep the application alive
+      thread.setDaemon(true);
+      thread.setName("maze-pregenerator-" + thread.getName());
+      return thread;
+    };
+    this.workers = Executors.newFixedThreadPool(countThreads, threadFactory);
+    this.ready = new LinkedHashMap<>();
+  }
+
+  /**
+   * Starts generating a maze which is likely to be asked for. The game input must not be changed
+   * afterwards. Nothing happens if the maze is already ready or pending, or if the input is not
+   * valid.
+   *
+   * @param gameInput  input for the game
+   * @param randomSeed seed for generating the maze
+   * @return true if a new maze is being generated
+   */
+  public synchronized boolean prefetch(IGameInput gameInput, int randomSeed) {
+    MazeCache.Key key = new MazeCache.Key(gameInput, randomSeed);
+    if (workers.isShutdown() || ready.containsKey(key)
+                || !mazeCreator.verifyInputForMazeCreation(gameInput).equals("success")) {
+      return false;
+    }
+
+    Iterator<Future<InterfaceMaze>> oldest = ready.values().iterator();
+    while (ready.size() >= maxReady) {
+      oldest.next().cancel(true);
+      oldest.remove();
+    }
+    ready.put(key, workers.submit(
+            () -> mazeCreator.generateMazeFromCorrectInput(gameInput, randomSeed)));
+    return true;
+  }
+
+  /**
+   * Returns a maze for the game input. A predicted maze is handed out at once, or waited for if
+   * it is still being generated. Any other maze is generated on the calling thread.
+   *
+   * @param gameInput  input for the game
+   * @param randomSeed seed for generating the maze
+   * @return the maze, or null if it could not be generated
+   * @throws IllegalArgumentException if the input is not valid
+   */
+  public InterfaceMaze take(IGameInput gameInput, int randomSeed) {
+    Future<InterfaceMaze> prediction;
+    synchronized (this) {
+      prediction = ready.remove(new MazeCache.Key(gameInput, randomSeed));
+    }
+
+    if (prediction != null) {
+      try {
+        return prediction.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (CancellationException e) {
+        //the prediction was cancelled, so the maze is generated below instead
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    return mazeCreator.generateMazeFromCorrectInput(gameInput, randomSeed);
+  }
+
+  /**
+   * Returns the number of predicted mazes which are ready or still being generated.
+   *
+   * @return number of predicted mazes
+   */
+  public synchronized int getCountPredicted() {
+    return ready.size();
+  }
+
+  /**
+   * Returns the number of predicted mazes which are generated and can be handed out at once.
+   *
+   * @return number of ready mazes
+   */
+  public synchronized int getCountReady() {
+    int countReady = 0;
+    for (Future<InterfaceMaze> prediction : ready.values()) {
+      if (prediction.isDone() && !prediction.isCancelled()) {
+        countReady++;
+      }
+    }
+    return countReady;
+  }
+
+  /**
+   * Cancels all predictions and stops the worker threads. Mazes asked for afterwards are generated
+   * on the calling thread.
+   */
+  public synchronized void shutdown() {
+    for (Future<InterfaceMaze> prediction : ready.values()) {
+      prediction.cancel(true);
+    }
+    ready.clear();
+    workers.shutdownNow();
+  }
+}
@@ -0,0 +1,73 @@
+package maze.model;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Sink that writes the rows of a streamed maze to an output stream. The four opening bits of two
+ * neighbouring rooms are packed into one byte, the room in the even column taking the lower half,
+ * so every row takes (columns + 1) / 2 bytes.
+ */
+public class MazeRowWriter implements IMazeRowSink, Closeable {
+  private final OutputStream out;
+  private final int col;
+  private final byte[] packedRow;
+  private int countRows;
+
+  /**
+   * Constructor for the row writer.
+   *
+   * @param out stream receiving the packed rows
+   * @param col number of columns in every row
+   */
+  public MazeRowWriter(OutputStream out, int col) {
+    if (out == null) {
+      throw new IllegalArgumentException("No output stream provided");
+    }
+    this.out = new BufferedOutputStream(out);
+    this.col = col;
+    this.packedRow = new byte[(col + 1) / 2];
+  }
+
+  @Override
+  public void acceptRow(int rowNumber, byte[] openings) throws IOException {
+    if (rowNumber != countRows) {
+      throw new IllegalArgumentException("Rows must be written in order, expected row "
+                                                 + countRows);
+    }
+    for (int c = 0; c < col; c += 2) {
+      int packed = openings[c] & 0x0F;
+      if (c + 1 < col) {
+        packed |= (openings[c + 1] & 0x0F) << 4;
+      }
+      packedRow[c / 2] = (byte) packed;
+    }
+    out.write(packedRow);
+    countRows++;
+  }
+
+  /**
+   * Returns the number of rows written so far.
+   *
+   * @return number of rows written
+   */
+  public int getCountRows() {
+    return countRows;
+  }
+
+  /**
+   * Writes any buffered rows to the underlying stream.
+   *
+   * @throws IOException if the rows cannot be written
+   */
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+}
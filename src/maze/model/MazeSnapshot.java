@@ -0,0 +1,122 @@
+package maze.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable copy of a generated maze, holding only its walls and the rooms of its hazards. A
+ * snapshot never changes once taken, so it can be shared between threads and turned into any
+ * number of independent mazes, each with its own rooms and players.
+ */
+public class MazeSnapshot {
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final int row;
+  private final int col;
+  private final boolean wrappingFlag;
+  private final MazeType mazeType;
+  private final byte[] openings;
+  private final Map<FeatureType, int[]> featureRooms;
+
+  private MazeSnapshot(int row, int col, boolean wrappingFlag, MazeType mazeType,
+                       byte[] openings, Map<FeatureType, int[]> featureRooms) {
+    this.row = row;
+    this.col = col;
+    this.wrappingFlag = wrappingFlag;
+    this.mazeType = mazeType;
+    this.openings = openings;
+    this.featureRooms = featureRooms;
+  }
+
+  /**
+   * Takes a snapshot of the walls and features of a maze.
+   *
+   * @param maze maze to copy
+   * @return snapshot of the maze
+   */
+  public static MazeSnapshot of(InterfaceMaze maze) {
+    WallTopology topology = maze.getWallTopology();
+    Map<FeatureType, int[]> featureRooms = new EnumMap<>(FeatureType.class);
+    for (FeatureType featureType : FeatureType.values()) {
+      List<Room> caves = maze.getCavesWithFeature(featureType);
+      if (caves.size() != 0) {
+        int[] rooms = new int[caves.size()];
+        for (int i = 0; i < rooms.length; i++) {
+          rooms[i] = caves.get(i).getRoomId();
+        }
+        featureRooms.put(featureType, rooms);
+      }
+    }
+    return new MazeSnapshot(topology.getRow(), topology.getCol(), maze.getWrappingFlag(),
+            maze.equalsPerfect() ? MazeType.PERFECT : MazeType.IMPERFECT,
+            topology.copyOpenings(), Collections.unmodifiableMap(featureRooms));
+  }
+
+  public int getRow() {
+    return row;
+  }
+
+  public int getCol() {
+    return col;
+  }
+
+  public boolean getWrappingFlag() {
+    return wrappingFlag;
+  }
+
+  public MazeType getMazeType() {
+    return mazeType;
+  }
+
+  public int getCountRooms() {
+    return openings.length;
+  }
+
+  /**
+   * Returns a 64-bit FNV-1a hash over the size, type, walls and features of the maze. Mazes with
+   * the same fingerprint are the same maze with overwhelming probability.
+   *
+   * @return fingerprint of the maze
+   */
+  public long getFingerprint() {
+    long hash = FNV_OFFSET_BASIS;
+    hash = mix(hash, row);
+    hash = mix(hash, col);
+    hash = mix(hash, wrappingFlag ? 1 : 0);
+    hash = mix(hash, mazeType.ordinal());
+    for (byte opening : openings) {
+      hash = (hash ^ opening) * FNV_PRIME;
+    }
+    for (Map.Entry<FeatureType, int[]> feature : featureRooms.entrySet()) {
+      hash = mix(hash, feature.getKey().ordinal());
+      for (int room : feature.getValue()) {
+        hash = mix(hash, room);
+      }
+    }
+    return hash;
+  }
+
+  private static long mix(long hash, int value) {
+    for (int shift = 0; shift < 32; shift += 8) {
+      hash = (hash ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  /**
+   * Creates a new maze with the walls and features of this snapshot. Every call returns a maze of
+   * its own, so games played on different copies never see each other's changes.
+   *
+   * @return new maze
+   */
+  public InterfaceMaze toMaze() {
+    Maze maze = mazeType == MazeType.PERFECT ? new PerfectMaze(row, col, wrappingFlag)
+                                             : new ImperfectMaze(row, col, wrappingFlag);
+    maze.getWallTopology().restoreOpenings(openings);
+    maze.restoreFeatures(featureRooms);
+    return maze;
+  }
+}
@@ -0,0 +1,239 @@
+package maze.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Statistics of a maze used for analysing its difficulty. All statistics are computed from the
+ * wall topology and the corridor graph of the maze in a few linear passes over primitive arrays,
+ * so even a maze of a million rooms is analysed in a fraction of a second.
+ *
+ * <p>The diameter is the number of moves between the two rooms furthest apart, found by a
+ * breadth-first search from any room followed by one from the room it reaches last. This is exact
+ * for a perfect maze, which is a tree, and a lower bound for any other maze.
+ *
+ * <p>Start caves are the caves without a wumpus, bats or a pit, where players may be placed. A
+ * hazard is near a start cave if it is in one of the caves adjacent to the start cave.
+ */
+public class MazeStatistics {
+  private static final FeatureType[] HAZARDS = {FeatureType.WUMPUS, FeatureType.BAT,
+                                                FeatureType.PIT};
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final int countRooms;
+  private final int countCaves;
+  private final int countDeadEnds;
+  private final int[] degreeHistogram;
+  private final int longestTunnelChain;
+  private final int diameter;
+  private final boolean diameterExact;
+  private final int countStartCaves;
+  private final int countStartCavesNearHazard;
+  private final int countHazardsNearStartCaves;
+
+  private MazeStatistics(int countRooms, int countCaves, int[] degreeHistogram,
+                         int longestTunnelChain, int diameter, boolean diameterExact,
+                         int countStartCaves, int countStartCavesNearHazard,
+                         int countHazardsNearStartCaves) {
+    this.countRooms = countRooms;
+    this.countCaves = countCaves;
+    this.countDeadEnds = degreeHistogram[1];
+    this.degreeHistogram = degreeHistogram;
+    this.longestTunnelChain = longestTunnelChain;
+    this.diameter = diameter;
+    this.diameterExact = diameterExact;
+    this.countStartCaves = countStartCaves;
+    this.countStartCavesNearHazard = countStartCavesNearHazard;
+    this.countHazardsNearStartCaves = countHazardsNearStartCaves;
+  }
+
+  /**
+   * Computes the statistics of a maze whose caves and tunnels have been assigned.
+   *
+   * @param maze maze to analyse
+   * @return statistics of the maze
+   */
+  public static MazeStatistics of(InterfaceMaze maze) {
+    WallTopology topology = maze.getWallTopology();
+    int countRooms = topology.getCountRooms();
+
+    int[] degreeHistogram = new int[DIRECTIONS.length + 1];
+    for (int room = 0; room < countRooms; room++) {
+      degreeHistogram[topology.getCountDoors(room)]++;
+    }
+
+    List<Room> caves = maze.getAllCaves();
+    CorridorGraph corridors = maze.getCorridorGraph();
+    int longestTunnelChain = 0;
+    for (Room cave : caves) {
+      for (Direction direction : DIRECTIONS) {
+        longestTunnelChain = Math.max(longestTunnelChain,
+                corridors.getCorridorLength(cave.getRoomId(), direction) - 1);
+      }
+    }
+
+    int diameter = 0;
+    if (countRooms > 0) {
+      int[] distances = new int[countRooms];
+      int[] queue = new int[countRooms];
+      int farthest = breadthFirstSearch(topology, 0, distances, queue);
+      int last = breadthFirstSearch(topology, farthest, distances, queue);
+      diameter = distances[last];
+    }
+
+    //hazards near the start caves
+    boolean[] hazardous = new boolean[countRooms];
+    for (FeatureType hazard : HAZARDS) {
+      for (Room cave : maze.getCavesWithFeature(hazard)) {
+        hazardous[cave.getRoomId()] = true;
+      }
+    }
+    int countStartCaves = 0;
+    int countStartCavesNearHazard = 0;
+    int countHazardsNearStartCaves = 0;
+    for (Room cave : caves) {
+      if (hazardous[cave.getRoomId()]) {
+        continue;
+      }
+      countStartCaves++;
+      int countNear = 0;
+      for (Direction direction : DIRECTIONS) {
+        Room adjacent = corridors.getAdjacentCave(cave.getRoomId(), direction);
+        if (adjacent != null && hazardous[adjacent.getRoomId()]) {
+          countNear++;
+        }
+      }
+      countHazardsNearStartCaves += countNear;
+      if (countNear > 0) {
+        countStartCavesNearHazard++;
+      }
+    }
+
+    return new MazeStatistics(countRooms, caves.size(), degreeHistogram, longestTunnelChain,
+            diameter, maze.equalsPerfect(), countStartCaves, countStartCavesNearHazard,
+            countHazardsNearStartCaves);
+  }
+
+  // Fills the distances of all rooms reachable from the start, -1 for the others, and returns the
+  // room reached last.
+  private static int breadthFirstSearch(WallTopology topology, int start, int[] distances,
+                                        int[] queue) {
+    Arrays.fill(distances, -1);
+    distances[start] = 0;
+    queue[0] = start;
+    int head = 0;
+    int tail = 1;
+    while (head < tail) {
+      int room = queue[head++];
+      for (Direction direction : DIRECTIONS) {
+        if (topology.isOpen(room, direction)) {
+          int next = topology.getNeighbour(room, direction);
+          if (distances[next] < 0) {
+            distances[next] = distances[room] + 1;
+            queue[tail++] = next;
+          }
+        }
+      }
+    }
+    return queue[tail - 1];
+  }
+
+  public int getCountRooms() {
+    return countRooms;
+  }
+
+  public int getCountCaves() {
+    return countCaves;
+  }
+
+  public int getCountTunnels() {
+    return countRooms - countCaves;
+  }
+
+  /**
+   * Returns the number of caves for every tunnel.
+   *
+   * @return ratio of caves to tunnels, infinite if there are no tunnels
+   */
+  public double getCaveTunnelRatio() {
+    return getCountTunnels() == 0 ? Double.POSITIVE_INFINITY
+                                  : countCaves / (double) getCountTunnels();
+  }
+
+  /**
+   * Returns the number of rooms with a single door.
+   *
+   * @return number of dead ends
+   */
+  public int getCountDeadEnds() {
+    return countDeadEnds;
+  }
+
+  /**
+   * Returns the number of rooms with the given number of doors.
+   *
+   * @param countDoors number of doors, from 0 to 4
+   * @return number of rooms with that many doors
+   * @throws IllegalArgumentException if the number of doors is not between 0 and 4
+   */
+  public int getCountRoomsWithDegree(int countDoors) {
+    if (countDoors < 0 || countDoors >= degreeHistogram.length) {
+      throw new IllegalArgumentException("A room has 0 to 4 doors");
+    }
+    return degreeHistogram[countDoors];
+  }
+
+  /**
+   * Returns the number of tunnels in the longest chain of tunnels between two caves.
+   *
+   * @return length of the longest tunnel chain
+   */
+  public int getLongestTunnelChain() {
+    return longestTunnelChain;
+  }
+
+  /**
+   * Returns the number of moves between the two rooms furthest apart.
+   *
+   * @return diameter of the maze, exact only if {@link #isDiameterExact()}
+   */
+  public int getDiameter() {
+    return diameter;
+  }
+
+  public boolean isDiameterExact() {
+    return diameterExact;
+  }
+
+  public int getCountStartCaves() {
+    return countStartCaves;
+  }
+
+  /**
+   * Returns the number of start caves with at least one hazard in an adjacent cave.
+   *
+   * @return number of start caves near a hazard
+   */
+  public int getCountStartCavesNearHazard() {
+    return countStartCavesNearHazard;
+  }
+
+  /**
+   * Returns the average number of hazardous caves adjacent to a start cave.
+   *
+   * @return hazard density near the start caves, 0 if there are no start caves
+   */
+  public double getHazardDensityNearStartCaves() {
+    return countStartCaves == 0 ? 0 : countHazardsNearStartCaves / (double) countStartCaves;
+  }
+
+  @Override
+  public String toString() {
+    return "MazeStatistics{" + "rooms=" + countRooms + ", caves=" + countCaves
+                   + ", tunnels=" + getCountTunnels() + ", deadEnds=" + countDeadEnds
+                   + ", degrees=" + Arrays.toString(degreeHistogram)
+                   + ", longestTunnelChain=" + longestTunnelChain + ", diameter=" + diameter
+                   + (diameterExact ? "" : "+") + ", startCaves=" + countStartCaves
+                   + ", startCavesNearHazard=" + countStartCavesNearHazard + '}';
+  }
+}
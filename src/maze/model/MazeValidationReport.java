@@ -0,0 +1,94 @@
+package maze.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of validating a maze: whether all rooms are reachable from each other, how many caves
+ * have each feature, and the problems found.
+ */
+public class MazeValidationReport {
+  private final int countRooms;
+  private final int countComponents;
+  private final int countCaves;
+  private final Map<FeatureType, Integer> featureCounts;
+  private final List<String> problems;
+
+  /**
+   * Constructor for the validation report.
+   *
+   * @param countRooms      number of rooms in the maze
+   * @param countComponents number of groups of rooms which are connected to each other
+   * @param countCaves      number of caves in the maze
+   * @param featureCounts   number of caves having each feature
+   * @param problems        descriptions of the problems found, empty if the maze is valid
+   */
+  public MazeValidationReport(int countRooms, int countComponents, int countCaves,
+                              Map<FeatureType, Integer> featureCounts, List<String> problems) {
+    this.countRooms = countRooms;
+    this.countComponents = countComponents;
+    this.countCaves = countCaves;
+    this.featureCounts = new EnumMap<>(FeatureType.class);
+    this.featureCounts.putAll(featureCounts);
+    this.problems = Collections.unmodifiableList(new ArrayList<>(problems));
+  }
+
+  /**
+   * Returns whether no problems were found in the maze.
+   *
+   * @return true if the maze is valid
+   */
+  public boolean isValid() {
+    return problems.isEmpty();
+  }
+
+  /**
+   * Returns whether there is a path between any two rooms of the maze.
+   *
+   * @return true if all rooms are connected
+   */
+  public boolean isConnected() {
+    return countComponents <= 1;
+  }
+
+  public int getCountRooms() {
+    return countRooms;
+  }
+
+  public int getCountComponents() {
+    return countComponents;
+  }
+
+  public int getCountCaves() {
+    return countCaves;
+  }
+
+  /**
+   * Returns the number of caves found with a feature.
+   *
+   * @param featureType feature to count
+   * @return number of caves with the feature
+   */
+  public int getCountCavesWithFeature(FeatureType featureType) {
+    return featureCounts.getOrDefault(featureType, 0);
+  }
+
+  /**
+   * Returns descriptions of the problems found in the maze.
+   *
+   * @return read-only list of problems, empty if the maze is valid
+   */
+  public List<String> getProblems() {
+    return problems;
+  }
+
+  @Override
+  public String toString() {
+    return "MazeValidationReport{" + "rooms=" + countRooms + ", components=" + countComponents
+                   + ", caves=" + countCaves + ", features=" + featureCounts
+                   + ", problems=" + problems + '}';
+  }
+}
@@ -0,0 +1,24 @@
+package maze.model;
+
+/**
+ * Room whose features can be changed. Features are only placed while the maze is built, through
+ * the room index of the maze, so outside of this package the rooms are only seen through the
+ * read-only {@link Room} interface. Features changed during a game are kept in its
+ * {@link GameSession} instead.
+ */
+interface MutableRoom extends Room {
+
+  /**
+   * Adds specified feature to the room.
+   *
+   * @param featureType to be added to the room
+   */
+  void addNewFeature(FeatureType featureType);
+
+  /**
+   * Removes specified feature from the room.
+   *
+   * @param featureType to be removed from the room
+   */
+  void removeFeature(FeatureType featureType);
+}
@@ -0,0 +1,205 @@
+package maze.model;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generator that splits the grid into square tiles and builds a spanning tree inside every tile in
+ * parallel on a fork/join pool, using randomized Kruskal's algorithm. The tiles are then stitched
+ * together by demolishing one wall for every edge of a random spanning tree over the tiles, so the
+ * result is still a perfect maze. Every tile draws from its own random generator split off in tile
+ * order from the seed, which makes the maze the same regardless of the number of threads.
+ *
+ * <p>In a wrapping maze the wrapping walls are stitched like the walls between any two tiles. When
+ * a single tile spans all the rows or columns, its own spanning tree includes the wrapping walls of
+ * that dimension instead.
+ */
+public class ParallelTiledGenerator extends AbstractMazeGenerator {
+  private static final int DEFAULT_TILE_SIZE = 64;
+  private final int tileSize;
+  private final ForkJoinPool pool;
+
+  /**
+   * Constructor for the generator using the default tile size and the common fork/join pool.
+   */
+  public ParallelTiledGenerator() {
+    this(DEFAULT_TILE_SIZE, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructor for the generator.
+   *
+   * @param tileSize number of rows and columns in a tile
+   * @param pool     pool running the generation of the tiles
+   */
+  public ParallelTiledGenerator(int tileSize, ForkJoinPool pool) {
+    if (tileSize <= 0) {
+      throw new IllegalArgumentException("Tile size should be positive");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("No pool provided");
+    }
+    this.tileSize = tileSize;
+    this.pool = pool;
+  }
+
+  @Override
+  public void generate(WallTopology topology, boolean wrapping, Random random) {
+    if (topology.getCountRooms() == 0) {
+      return;
+    }
+    int tilesDown = (topology.getRow() + tileSize - 1) / tileSize;
+    int tilesAcross = (topology.getCol() + tileSize - 1) / tileSize;
+    int countTiles = tilesDown * tilesAcross;
+
+    //wrapping walls only exist where the grid is wide or tall enough for them
+    boolean wrapAcross = hasNeighbour(topology, topology.getCol() - 1, Direction.EAST, wrapping);
+    boolean wrapDown = hasNeighbour(topology, (topology.getRow() - 1) * topology.getCol(),
+            Direction.SOUTH, wrapping);
+
+    SplittableRandom seedRandom = new SplittableRandom(random.nextLong());
+    SplittableRandom[] tileRandoms = new SplittableRandom[countTiles];
+    for (int tile = 0; tile < countTiles; tile++) {
+      tileRandoms[tile] = seedRandom.split();
+    }
+
+    //tiles only demolish walls between their own rooms, so they never write to the same room
+    pool.invoke(new TileTask(topology, tilesAcross, tilesDown, wrapAcross, wrapDown, tileRandoms,
+            0, countTiles));
+    stitchTiles(topology, wrapAcross, wrapDown, tilesDown, tilesAcross, seedRandom);
+  }
+
+  @Override
+  public GeneratorType getGeneratorType() {
+    return GeneratorType.PARALLEL_TILED;
+  }
+
+  private void generateTile(WallTopology topology, int tile, int tilesAcross, boolean wrapEast,
+                            boolean wrapSouth, SplittableRandom random) {
+    int firstRow = (tile / tilesAcross) * tileSize;
+    int firstCol = (tile % tilesAcross) * tileSize;
+    int height = Math.min(tileSize, topology.getRow() - firstRow);
+    int width = Math.min(tileSize, topology.getCol() - firstCol);
+
+    //edges are encoded as local room * 2 for the east wall and local room * 2 + 1 for the south
+    int[] edges = new int[2 * height * width];
+    int countEdges = 0;
+    for (int local = 0; local < height * width; local++) {
+      if (local % width != width - 1 || wrapEast) {
+        edges[countEdges++] = local << 1;
+      }
+      if (local / width != height - 1 || wrapSouth) {
+        edges[countEdges++] = (local << 1) | 1;
+      }
+    }
+    shuffle(edges, countEdges, random);
+
+    UnionFind sets = new UnionFind(height * width);
+    for (int k = 0; k < countEdges && sets.getCountSets() > 1; k++) {
+      int local = edges[k] >> 1;
+      boolean east = (edges[k] & 1) == 0;
+      //the walls of the last column and row lead around to the first ones
+      int neighbour = east ? local - local % width + (local % width + 1) % width
+                              : (local + width) % (height * width);
+      if (sets.union(local, neighbour)) {
+        int room = (firstRow + local / width) * topology.getCol() + firstCol + local % width;
+        topology.open(room, east ? Direction.EAST : Direction.SOUTH);
+      }
+    }
+  }
+
+  private void stitchTiles(WallTopology topology, boolean wrapAcross, boolean wrapDown,
+                           int tilesDown, int tilesAcross, SplittableRandom random) {
+    int countTiles = tilesDown * tilesAcross;
+    int[] edges = new int[2 * countTiles];
+    int countEdges = 0;
+    for (int tile = 0; tile < countTiles; tile++) {
+      //a single tile across holds the wrapping walls of its rows itself
+      if (tile % tilesAcross != tilesAcross - 1 || (wrapAcross && tilesAcross > 1)) {
+        edges[countEdges++] = tile << 1;
+      }
+      if (tile / tilesAcross != tilesDown - 1 || (wrapDown && tilesDown > 1)) {
+        edges[countEdges++] = (tile << 1) | 1;
+      }
+    }
+    shuffle(edges, countEdges, random);
+
+    UnionFind sets = new UnionFind(countTiles);
+    for (int k = 0; k < countEdges && sets.getCountSets() > 1; k++) {
+      int tile = edges[k] >> 1;
+      int tileRow = tile / tilesAcross;
+      int tileCol = tile % tilesAcross;
+      int firstRow = tileRow * tileSize;
+      int firstCol = tileCol * tileSize;
+      int height = Math.min(tileSize, topology.getRow() - firstRow);
+      int width = Math.min(tileSize, topology.getCol() - firstCol);
+
+      if ((edges[k] & 1) == 0) { //the tile to the east, wrapping around the last column
+        int east = tileRow * tilesAcross + (tileCol + 1) % tilesAcross;
+        if (sets.union(tile, east)) {
+          int room = (firstRow + random.nextInt(height)) * topology.getCol() + firstCol + width - 1;
+          topology.open(room, Direction.EAST);
+        }
+      } else { //the tile to the south, wrapping around the last row
+        int south = ((tileRow + 1) % tilesDown) * tilesAcross + tileCol;
+        if (sets.union(tile, south)) {
+          int room = (firstRow + height - 1) * topology.getCol() + firstCol + random.nextInt(width);
+          topology.open(room, Direction.SOUTH);
+        }
+      }
+    }
+  }
+
+  private static void shuffle(int[] edges, int countEdges, SplittableRandom random) {
+    for (int i = countEdges - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int temp = edges[i];
+      edges[i] = edges[j];
+      edges[j] = temp;
+    }
+  }
+
+  /**
+   * Task generating a range of tiles, splitting the range in halves until a single tile is left.
+   */
+  private class TileTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final WallTopology topology;
+    private final int tilesAcross;
+    private final int tilesDown;
+    private final boolean wrapAcross;
+    private final boolean wrapDown;
+    private final SplittableRandom[] tileRandoms;
+    private final int from;
+    private final int to;
+
+    TileTask(WallTopology topology, int tilesAcross, int tilesDown, boolean wrapAcross,
+             boolean wrapDown, SplittableRandom[] tileRandoms, int from, int to) {
+      this.topology = topology;
+      this.tilesAcross = tilesAcross;
+      this.tilesDown = tilesDown;
+      this.wrapAcross = wrapAcross;
+      this.wrapDown = wrapDown;
+      this.tileRandoms = tileRandoms;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        generateTile(topology, from, tilesAcross, wrapAcross && tilesAcross == 1,
+                wrapDown && tilesDown == 1, tileRandoms[from]);
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(new TileTask(topology, tilesAcross, tilesDown, wrapAcross, wrapDown,
+                        tileRandoms, from, middle),
+                new TileTask(topology, tilesAcross, tilesDown, wrapAcross, wrapDown,
+                        tileRandoms, middle, to));
+      }
+    }
+  }
+}
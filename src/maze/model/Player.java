@@ -67,29 +67,22 @@ public class Player implements InterfacePlayer {
 
   @Override
   public boolean useArrow(Direction direction, int distance) {
-    this.arrowCount--; //reduce the quantity of available weapons
-    return moveArrow(room, direction, distance);
-  }
-
-  /**
-   * Shoots the weapon in the given direction.
-   *
-   * @param room      in which the player shoots the weapon
-   * @param direction Direction in which weapon needs to be thrown
-   * @param distance  distance that needs to be traveled
-   * @return true if weapon successfully kills the wumpus
-   */
-  private boolean moveArrow(Room room, Direction direction, int distance) {
-    Room arrowLandingRoom = room.findCaveAtDistance(direction, distance);
+    Room arrowLandingRoom = shootArrow(direction, distance);
     if (arrowLandingRoom == null) { //Arrow throw was blocked by wall
       return false;
     } else {
       //killed the wumpus
       //Arrow landed into a non-wumpus cave
-      return arrowLandingRoom.getFeatures().get(FeatureType.WUMPUS);
+      return arrowLandingRoom.hasFeature(FeatureType.WUMPUS);
     }
   }
 
+  @Override
+  public Room shootArrow(Direction direction, int distance) {
+    this.arrowCount--; //reduce the quantity of available weapons
+    return room.findCaveAtDistance(direction, distance);
+  }
+
   @Override
   public void collectGold() {
     this.gold += 100;
@@ -0,0 +1,162 @@
+package maze.model;
+
+import java.util.Random;
+
+/**
+ * Generator that assigns a random weight to every edge of the grid and builds the minimum
+ * spanning tree with Prim's algorithm. Prim's grows the tree outwards from a single room, which
+ * gives many short dead ends and therefore a high number of caves.
+ */
+public class PrimsGenerator extends AbstractMazeGenerator {
+
+  @Override
+  public void generate(WallTopology topology, boolean wrapping, Random random) {
+    int[] parent = applyPrims(topology, wrapping, random);
+    for (int i = 0; i < topology.getCountRooms(); i++) {
+      if (parent[i] != i && parent[i] != Integer.MAX_VALUE) { //root of the tree has no parent
+        topology.open(parent[i], i);
+      }
+    }
+  }
+
+  @Override
+  public GeneratorType getGeneratorType() {
+    return GeneratorType.PRIMS;
+  }
+
+  // Weights are kept per edge instead of per pair of rooms. The edge to the east of a room is
+  // stored at 2 * room and the edge to the south at 2 * room + 1; 0 indicates there is no edge.
+  private int[] assignRandomWeightToEdges(WallTopology topology, boolean wrapping,
+                                          Random random) {
+
+    int row = topology.getRow();
+    int column = topology.getCol();
+    int countRooms = topology.getCountRooms();
+    int[] randomEdgeWeight = new int[2 * countRooms];
+
+    if (wrapping) {
+      int room1;
+      int room2;
+
+      for (int rowNumber = 0; rowNumber < row; rowNumber++) {
+        room1 = rowNumber * column;
+        room2 = room1 + column - 1;
+        setEdgeWeight(topology, randomEdgeWeight, room1, room2,
+                random.nextInt(countRooms * 3) + 1);
+      }
+
+      for (int colNumber = 0; colNumber < column; colNumber++) {
+        room1 = colNumber;
+        room2 = room1 + (row - 1) * column;
+        setEdgeWeight(topology, randomEdgeWeight, room1, room2,
+                random.nextInt(countRooms * 3) + 1);
+      }
+    }
+
+    //the first room always draws a weight to the east, even in a grid of a single column, so that
+    //seeded mazes keep their layout
+    GridTopology planar = topology.getGrid(false);
+    for (int i = 0; i < countRooms; i++) {
+      if (planar.hasNeighbour(i, Direction.EAST) || i == 0) {
+        setEdgeWeight(topology, randomEdgeWeight, i, i + 1, random.nextInt(countRooms * 3) + 1);
+      }
+
+      if (planar.hasNeighbour(i, Direction.SOUTH)) {
+        setEdgeWeight(topology, randomEdgeWeight, i, i + column,
+                random.nextInt(countRooms * 3) + 1);
+      }
+    }
+    return randomEdgeWeight;
+  }
+
+  private void setEdgeWeight(WallTopology topology, int[] randomEdgeWeight, int room1, int room2,
+                             int weight) {
+    if (room2 >= topology.getCountRooms()) {
+      return;
+    }
+    int edge = topology.getGrid(true).getEdgeBetween(room1, room2);
+    if (edge >= 0) { //a room cannot have an edge to itself
+      randomEdgeWeight[edge] = weight;
+    }
+  }
+
+  // Prim's algorithm over the implicit grid using a binary heap. Heap entries pack the weight in
+  // the upper and the room in the lower 32 bits, so ties are broken by the lower room ID and the
+  // resulting tree is the same as picking the minimum by a linear scan.
+  private int[] applyPrims(WallTopology topology, boolean wrapping, Random random) {
+    int countRooms = topology.getCountRooms();
+    int[] randomEdgeWeight = assignRandomWeightToEdges(topology, wrapping, random);
+    int[] parent = new int[countRooms];
+    int[] weight = new int[countRooms];
+
+    boolean[] visited = new boolean[countRooms];
+
+    for (int i = 0; i < countRooms; i++) {
+      weight[i] = Integer.MAX_VALUE;
+      parent[i] = Integer.MAX_VALUE;
+    }
+    weight[0] = 0;
+    parent[0] = 0;
+
+    long[] heap = new long[4 * countRooms + 1];
+    int heapSize = heapPush(heap, 0, 0L);
+
+    int nextNode;
+    int countVisited = 0;
+    while (countVisited < countRooms - 1 && heapSize > 0) {
+      long entry = heap[0];
+      heapSize = heapPop(heap, heapSize);
+      nextNode = (int) entry;
+      if (visited[nextNode] || (int) (entry >>> 32) != weight[nextNode]) {
+        continue; //stale entry, the room was reached through a lighter edge
+      }
+
+      visited[nextNode] = true;
+      countVisited++;
+      for (Direction direction : DIRECTIONS) {
+        int j = topology.getNeighbour(nextNode, direction);
+        if (j < 0) {
+          continue;
+        }
+        int edge = topology.getGrid(true).getEdgeBetween(nextNode, j);
+        if (!visited[j] && edge >= 0 && randomEdgeWeight[edge] != 0
+                    && randomEdgeWeight[edge] < weight[j]) {
+          weight[j] = randomEdgeWeight[edge];
+          parent[j] = nextNode;
+          heapSize = heapPush(heap, heapSize, ((long) weight[j] << 32) | j);
+        }
+      }
+    }
+
+    return parent;
+  }
+
+  private static int heapPush(long[] heap, int heapSize, long value) {
+    int child = heapSize;
+    while (child > 0 && heap[(child - 1) / 2] > value) {
+      heap[child] = heap[(child - 1) / 2];
+      child = (child - 1) / 2;
+    }
+    heap[child] = value;
+    return heapSize + 1;
+  }
+
+  private static int heapPop(long[] heap, int heapSize) {
+    heapSize--;
+    long value = heap[heapSize];
+    int parent = 0;
+    while (2 * parent + 1 < heapSize) {
+      int child = 2 * parent + 1;
+      if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+        child++;
+      }
+      if (heap[child] >= value) {
+        break;
+      }
+      heap[parent] = heap[child];
+      parent = child;
+    }
+    heap[parent] = value;
+    return heapSize;
+  }
+}
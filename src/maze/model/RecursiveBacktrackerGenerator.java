@@ -0,0 +1,56 @@
+package maze.model;
+
+import java.util.Random;
+
+/**
+ * Generator that carves a path by walking to random unvisited neighbours and backtracking when it
+ * gets stuck, as in the recursive backtracker. The recursion is replaced with an explicit stack,
+ * so large mazes do not overflow the call stack. The resulting maze has long winding corridors
+ * and few dead ends, which means most of the rooms become tunnels.
+ */
+public class RecursiveBacktrackerGenerator extends AbstractMazeGenerator {
+
+  @Override
+  public void generate(WallTopology topology, boolean wrapping, Random random) {
+    int countRooms = topology.getCountRooms();
+    if (countRooms == 0) {
+      return;
+    }
+    boolean[] visited = new boolean[countRooms];
+    int[] stack = new int[countRooms];
+    Direction[] directions = new Direction[DIRECTIONS.length];
+    Direction[] unvisited = new Direction[DIRECTIONS.length];
+
+    int start = random.nextInt(countRooms);
+    visited[start] = true;
+    stack[0] = start;
+    int top = 1;
+
+    while (top > 0) {
+      int room = stack[top - 1];
+      int countDirections = getNeighbourDirections(topology, room, wrapping, directions);
+
+      int countUnvisited = 0;
+      for (int i = 0; i < countDirections; i++) {
+        if (!visited[topology.getNeighbour(room, directions[i])]) {
+          unvisited[countUnvisited++] = directions[i];
+        }
+      }
+
+      if (countUnvisited == 0) { //dead end, backtrack
+        top--;
+      } else {
+        Direction direction = unvisited[random.nextInt(countUnvisited)];
+        int next = topology.getNeighbour(room, direction);
+        topology.open(room, direction);
+        visited[next] = true;
+        stack[top++] = next;
+      }
+    }
+  }
+
+  @Override
+  public GeneratorType getGeneratorType() {
+    return GeneratorType.RECURSIVE_BACKTRACKER;
+  }
+}
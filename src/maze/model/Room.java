@@ -5,17 +5,11 @@ import java.util.Map;
 import java.util.Set;
 
 /**
- * Interface depicting a room inside of a maze.
+ * Interface depicting a room inside of a maze. The rooms are only read through this interface, so
+ * a maze can be shared by many games.
  */
 public interface Room {
 
-  /**
-   * Sets all the allowed moves to another room in a specific direction.
-   *
-   * @param possibleMoves mapping between room and another room in given direction
-   */
-  public void setPossibleMoves(Map<Direction, Room> possibleMoves);
-
   /**
    * Gets all possible moves from a room.
    *
@@ -45,19 +39,12 @@ public interface Room {
   public boolean isCave();
 
   /**
-   * Adds another room in a given direction.
+   * Checks whether the room has specified feature. Tunnels never have features.
    *
-   * @param direction direction in which room needs to be added
-   * @param room      room that needs to be added
+   * @param featureType to be checked
+   * @return true if the room has the feature
    */
-  public void addRoomInDirection(Direction direction, Room room);
-
-  /**
-   * Adds specified feature to the room.
-   *
-   * @param featureType to be added to the room
-   */
-  public void addNewFeature(FeatureType featureType);
+  public boolean hasFeature(FeatureType featureType);
 
   /**
    * Gets information about all the features in the room.
@@ -75,14 +62,6 @@ public interface Room {
    */
   Room findCaveAtDistance(Direction inverseIncomingDirection, int distanceForCave);
 
-  /**
-   * Adds a cave adjacent to a given cave.
-   *
-   * @param direction direction in which given cave is adjacent
-   * @param cave      cave that is adjacent
-   */
-  public void addAdjacentCave(Direction direction, Room cave);
-
 
   /**
    * Gets mapping of adjacent cave sin different directions.
@@ -98,31 +77,12 @@ public interface Room {
    */
   public Smell getSmellDetails();
 
-
-  /**
-   * Set a room as visited.
-   */
-  void setVisited();
-
-  /**
-   * Returns whether room is visited during the game play.
-   * @return true if room is visited during the game play
-   */
-  boolean isVisited();
-
   /**
    * Get set of all smells in the room.
    * @return set of all smells in the room
    */
   Set<SmellName> getSmellIconSet();
 
-  /**
-   * Adds a connecting tunnel in a given direction.
-   * @param direction direction
-   * @param tunnel tunnel
-   */
-  void addAdjacentTunnel(Direction direction, Room tunnel);
-
   /**
    * Returns list of all adjacent tunnels in a given direction.
    * @return list of all adjacent tunnels
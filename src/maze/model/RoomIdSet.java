@@ -0,0 +1,60 @@
+package maze.model;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only set of room IDs backed by a bit set over the rooms. The set reads the bits on every
+ * lookup, so it follows the changes to the bit set without being rebuilt.
+ */
+class RoomIdSet extends AbstractSet<Integer> {
+  private final BitSet roomIds;
+
+  /**
+   * Constructor for the view.
+   *
+   * @param roomIds bit set with the bit of every room in the set
+   */
+  RoomIdSet(BitSet roomIds) {
+    this.roomIds = roomIds;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o instanceof Integer && (Integer) o >= 0 && roomIds.get((Integer) o);
+  }
+
+  @Override
+  public int size() {
+    return roomIds.cardinality();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return roomIds.isEmpty();
+  }
+
+  @Override
+  public Iterator<Integer> iterator() {
+    return new Iterator<Integer>() {
+      private int next = roomIds.nextSetBit(0);
+
+      @Override
+      public boolean hasNext() {
+        return next >= 0;
+      }
+
+      @Override
+      public Integer next() {
+        if (next < 0) {
+          throw new NoSuchElementException();
+        }
+        int roomId = next;
+        next = roomIds.nextSetBit(roomId + 1);
+        return roomId;
+      }
+    };
+  }
+}
@@ -0,0 +1,256 @@
+package maze.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * Index over the rooms of a maze. Rooms are looked up by their ID in an array, caves are numbered
+ * densely in the order of their room IDs and every feature keeps a bit set over the cave numbers,
+ * so that looking up a room, a cave or the caves having a feature never scans the whole maze.
+ *
+ * <p>The rooms are either stored as objects, or created on demand from their IDs so that no room
+ * object is kept at all.
+ */
+public class RoomIndex {
+  //null if the rooms are created on demand
+  private final MutableRoom[] roomsById;
+  private final IntFunction<MutableRoom> roomFactory;
+  private final int countRooms;
+  //caveIds[caveNumber] is the room ID of the cave
+  private final int[] caveIds;
+  //caveNumbers[roomId] is the position of the room among the caves, or -1 for a tunnel
+  private final int[] caveNumbers;
+  private final List<Room> caveList;
+  private final Map<FeatureType, BitSet> featureCaves;
+  //counts the changes to the caves having each feature, by feature ordinal
+  private final int[] featureVersions = new int[FeatureType.values().length];
+
+  /**
+   * Constructor for the index over a list of rooms where every room is at the index of its ID.
+   *
+   * @param rooms rooms of the maze in the order of their IDs
+   * @throws IllegalArgumentException if a room is not at the index of its ID, or is not a cave or
+   *                                  tunnel of a maze
+   */
+  public RoomIndex(List<Room> rooms) {
+    this.roomsById = new MutableRoom[rooms.size()];
+    this.roomFactory = null;
+    this.countRooms = roomsById.length;
+    this.caveNumbers = new int[countRooms];
+    int countCaves = 0;
+    for (int i = 0; i < countRooms; i++) {
+      if (!(rooms.get(i) instanceof MutableRoom)) {
+        throw new IllegalArgumentException("Room " + i + " is not a cave or tunnel of a maze");
+      }
+      roomsById[i] = (MutableRoom) rooms.get(i);
+      if (roomsById[i].getRoomId() != i) {
+        throw new IllegalArgumentException("Room " + roomsById[i].getRoomId()
+                                                   + " is not stored at index " + i);
+      }
+      caveNumbers[i] = roomsById[i].isCave() ? countCaves++ : -1;
+    }
+    this.caveIds = getCaveIds(caveNumbers, countCaves);
+    this.caveList = new CaveList();
+    this.featureCaves = new EnumMap<>(FeatureType.class);
+  }
+
+  /**
+   * Constructor for the index over rooms which are created on demand. The index only keeps the
+   * cave numbers, and asks the factory for a room whenever one is looked up.
+   *
+   * @param caveNumbers position of every room among the caves, or -1 for a tunnel, by room ID
+   * @param roomFactory creates the room with a given ID
+   */
+  RoomIndex(int[] caveNumbers, IntFunction<MutableRoom> roomFactory) {
+    this.roomsById = null;
+    this.roomFactory = roomFactory;
+    this.countRooms = caveNumbers.length;
+    this.caveNumbers = caveNumbers;
+    int countCaves = 0;
+    for (int caveNumber : caveNumbers) {
+      if (caveNumber >= 0) {
+        countCaves++;
+      }
+    }
+    this.caveIds = getCaveIds(caveNumbers, countCaves);
+    this.caveList = new CaveList();
+    this.featureCaves = new EnumMap<>(FeatureType.class);
+  }
+
+  private static int[] getCaveIds(int[] caveNumbers, int countCaves) {
+    int[] caveIds = new int[countCaves];
+    for (int roomId = 0; roomId < caveNumbers.length; roomId++) {
+      if (caveNumbers[roomId] >= 0) {
+        caveIds[caveNumbers[roomId]] = roomId;
+      }
+    }
+    return caveIds;
+  }
+
+  /**
+   * Returns the room with the specified ID.
+   *
+   * @param roomId room ID
+   * @return room object
+   * @throws IllegalArgumentException if there is no room with the ID
+   */
+  public Room getRoom(int roomId) {
+    return getMutableRoom(roomId);
+  }
+
+  private MutableRoom getMutableRoom(int roomId) {
+    if (roomId < 0 || roomId >= countRooms) {
+      throw new IllegalArgumentException("Room not found");
+    }
+    return roomsById != null ? roomsById[roomId] : roomFactory.apply(roomId);
+  }
+
+  /**
+   * Returns the number of rooms in the index.
+   *
+   * @return number of rooms
+   */
+  public int getCountRooms() {
+    return countRooms;
+  }
+
+  /**
+   * Returns a read-only list of all caves ordered by their room IDs.
+   *
+   * @return list of all caves
+   */
+  public List<Room> getCaves() {
+    return caveList;
+  }
+
+  /**
+   * Returns the position of a room among the caves.
+   *
+   * @param roomId room ID
+   * @return cave number, or -1 if the room is a tunnel
+   */
+  public int getCaveNumber(int roomId) {
+    getRoom(roomId);
+    return caveNumbers[roomId];
+  }
+
+  /**
+   * Adds a feature to the cave at the given position among the caves, keeping the feature index
+   * up to date.
+   *
+   * @param caveNumber  position of the cave among the caves
+   * @param featureType feature to be added
+   */
+  public void addFeature(int caveNumber, FeatureType featureType) {
+    getMutableRoom(caveIds[caveNumber]).addNewFeature(featureType);
+    updateFeature(caveIds[caveNumber], featureType, true);
+  }
+
+  /**
+   * Removes a feature from the cave at the given position among the caves, keeping the feature
+   * index up to date.
+   *
+   * @param caveNumber  position of the cave among the caves
+   * @param featureType feature to be removed
+   */
+  public void removeFeature(int caveNumber, FeatureType featureType) {
+    getMutableRoom(caveIds[caveNumber]).removeFeature(featureType);
+    updateFeature(caveIds[caveNumber], featureType, false);
+  }
+
+  /**
+   * Records in the feature index that a cave has gained or lost a feature. Rooms of the index call
+   * this whenever their features change, so the index never disagrees with the rooms.
+   *
+   * @param roomId      room ID of the cave
+   * @param featureType feature that changed
+   * @param present     true if the cave now has the feature
+   */
+  void updateFeature(int roomId, FeatureType featureType, boolean present) {
+    int caveNumber = caveNumbers[roomId];
+    if (present == hasFeature(caveNumber, featureType)) {
+      return;
+    }
+    if (present) {
+      featureCaves.computeIfAbsent(featureType, f -> new BitSet(caveIds.length)).set(caveNumber);
+    } else {
+      featureCaves.get(featureType).clear(caveNumber);
+    }
+    featureVersions[featureType.ordinal()]++;
+  }
+
+  /**
+   * Returns a counter of the changes to the caves having a feature. The counter changes whenever a
+   * cave gains or loses the feature, so caches built from those caves can tell when they are out
+   * of date without reading the caves again.
+   *
+   * @param featureType feature to check
+   * @return number of changes to the caves with the feature so far
+   */
+  int getFeatureVersion(FeatureType featureType) {
+    return featureVersions[featureType.ordinal()];
+  }
+
+  /**
+   * Returns whether the cave at the given position has a feature.
+   *
+   * @param caveNumber  position of the cave among the caves
+   * @param featureType feature to check
+   * @return true if the feature was added to the cave
+   */
+  public boolean hasFeature(int caveNumber, FeatureType featureType) {
+    BitSet bits = featureCaves.get(featureType);
+    return bits != null && bits.get(caveNumber);
+  }
+
+  /**
+   * Returns the number of caves having a feature.
+   *
+   * @param featureType feature to count
+   * @return number of caves with the feature
+   */
+  public int getCountCavesWithFeature(FeatureType featureType) {
+    BitSet bits = featureCaves.get(featureType);
+    return bits == null ? 0 : bits.cardinality();
+  }
+
+  /**
+   * Returns all the caves having a feature, ordered by their room IDs.
+   *
+   * @param featureType feature to look for
+   * @return list of caves with the feature
+   */
+  public List<Room> getCavesWithFeature(FeatureType featureType) {
+    BitSet bits = featureCaves.get(featureType);
+    if (bits == null) {
+      return new ArrayList<>();
+    }
+    List<Room> cavesWithFeature = new ArrayList<>(bits.cardinality());
+    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+      cavesWithFeature.add(getRoom(caveIds[i]));
+    }
+    return cavesWithFeature;
+  }
+
+  // Read-only list of the caves by their cave numbers.
+  private class CaveList extends AbstractList<Room> implements RandomAccess {
+    @Override
+    public Room get(int caveNumber) {
+      if (caveNumber < 0 || caveNumber >= caveIds.length) {
+        throw new IndexOutOfBoundsException("Cave number " + caveNumber);
+      }
+      return getRoom(caveIds[caveNumber]);
+    }
+
+    @Override
+    public int size() {
+      return caveIds.length;
+    }
+  }
+}
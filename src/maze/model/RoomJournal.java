@@ -0,0 +1,114 @@
+package maze.model;
+
+import java.util.BitSet;
+
+/**
+ * Journal of the rooms changed during a game, kept in a ring of room IDs so that the view can
+ * take them out one by one and redraw only those rooms. A room waiting in the journal is not added
+ * again, so the ring never holds more IDs than there are rooms. The ring starts small and doubles
+ * as needed, after which adding and taking out rooms does not allocate.
+ */
+public class RoomJournal {
+  /**
+   * Returned by {@link #poll()} when the journal is empty.
+   */
+  public static final int EMPTY = -1;
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int countRooms;
+  private final BitSet pending;
+  private int[] roomIds;
+  private int head;
+  private int size;
+
+  /**
+   * Constructor for an empty journal of the rooms of a maze.
+   *
+   * @param countRooms number of rooms in the maze
+   * @throws IllegalArgumentException if the number of rooms is negative
+   */
+  public RoomJournal(int countRooms) {
+    if (countRooms < 0) {
+      throw new IllegalArgumentException("Number of rooms cannot be negative");
+    }
+    this.countRooms = countRooms;
+    this.pending = new BitSet(countRooms);
+    this.roomIds = new int[Math.max(1, Math.min(INITIAL_CAPACITY, countRooms))];
+  }
+
+  /**
+   * Adds a changed room to the end of the journal, unless it is already waiting in it.
+   *
+   * @param roomId room ID
+   * @return true if the room was added
+   * @throws IllegalArgumentException if the room is not in the maze
+   */
+  public boolean add(int roomId) {
+    if (roomId < 0 || roomId >= countRooms) {
+      throw new IllegalArgumentException("Room not found");
+    }
+    if (pending.get(roomId)) {
+      return false;
+    }
+    if (size == roomIds.length) {
+      grow();
+    }
+    roomIds[(head + size) % roomIds.length] = roomId;
+    size++;
+    pending.set(roomId);
+    return true;
+  }
+
+  /**
+   * Takes the oldest room out of the journal.
+   *
+   * @return room ID, or {@link #EMPTY} if no room is waiting
+   */
+  public int poll() {
+    if (size == 0) {
+      return EMPTY;
+    }
+    int roomId = roomIds[head];
+    head = (head + 1) % roomIds.length;
+    size--;
+    pending.clear(roomId);
+    return roomId;
+  }
+
+  /**
+   * Returns whether a room is waiting in the journal.
+   *
+   * @param roomId room ID
+   * @return true if the room has been added and not taken out yet
+   */
+  public boolean contains(int roomId) {
+    return roomId >= 0 && roomId < countRooms && pending.get(roomId);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Drops all rooms waiting in the journal, keeping the ring for later use.
+   */
+  public void clear() {
+    while (size > 0) {
+      poll();
+    }
+    head = 0;
+  }
+
+  private void grow() {
+    int[] grown = new int[Math.min(countRooms, roomIds.length * 2)];
+    for (int i = 0; i < size; i++) {
+      grown[i] = roomIds[(head + i) % roomIds.length];
+    }
+    roomIds = grown;
+    head = 0;
+  }
+}
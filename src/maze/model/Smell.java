@@ -1,7 +1,8 @@
 package maze.model;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -9,6 +10,29 @@ import java.util.Set;
  * Smell details of adjacent cells.
  */
 public class Smell {
+  //features which can be smelled from the adjacent caves
+  static final int SMELLING_FEATURES = mask(FeatureType.WUMPUS) | mask(FeatureType.PIT);
+  //the messages are shared by every smell, so they cannot be changed
+  private static final Map<FeatureType, String> SMELL_INDICATIONS = createSmellIndications();
+  //one shared smell for every combination of smelling features, null for the masks which
+  //contain other features
+  private static final Smell[] SHARED = new Smell[SMELLING_FEATURES + 1];
+
+  static {
+    for (int smellMask = 0; smellMask < SHARED.length; smellMask++) {
+      if ((smellMask & ~SMELLING_FEATURES) == 0) {
+        Set<FeatureType> adjFeatures = EnumSet.noneOf(FeatureType.class);
+        for (FeatureType featureType : FeatureType.values()) {
+          if ((smellMask & mask(featureType)) != 0) {
+            adjFeatures.add(featureType);
+          }
+        }
+        SHARED[smellMask] = new Smell(Collections.unmodifiableSet(adjFeatures));
+        SHARED[smellMask].smellIconSet = Collections.unmodifiableSet(
+                SHARED[smellMask].smellIconSet);
+      }
+    }
+  }
 
   Set<FeatureType> adjFeatures;
   Set<SmellName> smellIconSet;
@@ -21,12 +45,9 @@ public class Smell {
    */
   public Smell(Set<FeatureType> adjFeatures) {
     this.adjFeatures = adjFeatures;
-    this.smellIndications = new HashMap<>();
-    smellIndications.put(FeatureType.WUMPUS, "You smell a Wumpus!");
-    smellIndications.put(FeatureType.PIT, "You feel a draft");
-    smellIndications.put(FeatureType.BAT, "You smell a something terrible, could be bats!");
+    this.smellIndications = SMELL_INDICATIONS;
 
-    smellIconSet = new HashSet<>();
+    smellIconSet = EnumSet.noneOf(SmellName.class);
     for (FeatureType featureType : adjFeatures) {
       if (featureType == FeatureType.WUMPUS) {
         smellIconSet.add(SmellName.breeze);
@@ -36,6 +57,33 @@ public class Smell {
     }
   }
 
+  /**
+   * Returns the shared smell of a combination of adjacent features. Shared smells cannot be
+   * changed, so they are handed out without copying.
+   *
+   * @param smellMask features smelled, bit 1 &lt;&lt; ordinal() for each feature
+   * @return smell of the features
+   * @throws IllegalArgumentException if a feature in the mask cannot be smelled
+   */
+  public static Smell of(int smellMask) {
+    if ((smellMask & ~SMELLING_FEATURES) != 0) {
+      throw new IllegalArgumentException("Only the wumpus and pits can be smelled");
+    }
+    return SHARED[smellMask];
+  }
+
+  private static Map<FeatureType, String> createSmellIndications() {
+    Map<FeatureType, String> smellIndications = new EnumMap<>(FeatureType.class);
+    smellIndications.put(FeatureType.WUMPUS, "You smell a Wumpus!");
+    smellIndications.put(FeatureType.PIT, "You feel a draft");
+    smellIndications.put(FeatureType.BAT, "You smell a something terrible, could be bats!");
+    return Collections.unmodifiableMap(smellIndications);
+  }
+
+  static int mask(FeatureType featureType) {
+    return 1 << featureType.ordinal();
+  }
+
   public Set<SmellName> getSmellIconSet() {
     return smellIconSet;
   }
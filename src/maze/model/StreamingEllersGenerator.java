@@ -0,0 +1,160 @@
+package maze.model;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates a perfect maze one row at a time using Eller's algorithm and hands every completed row
+ * to a sink. Only the state of the current row is kept, so the memory needed is proportional to
+ * the number of columns and the number of rows is not limited by the available memory.
+ *
+ * <p>Wrapping only applies to the walls between the first and the last column. The first row has
+ * been handed to the sink long before the last one is built, so the walls between them are never
+ * demolished.
+ */
+public class StreamingEllersGenerator {
+  private static final byte EAST = bit(Direction.EAST);
+  private static final byte WEST = bit(Direction.WEST);
+  private static final byte NORTH = bit(Direction.NORTH);
+  private static final byte SOUTH = bit(Direction.SOUTH);
+
+  private final int row;
+  private final int col;
+  private final boolean wrapRow;
+
+  /**
+   * Constructor for the streaming generator.
+   *
+   * @param row      number of rows in the maze
+   * @param col      number of columns in the maze
+   * @param wrapping true if the walls between the first and the last column may be demolished
+   */
+  public StreamingEllersGenerator(int row, int col, boolean wrapping) {
+    if (row < 0 || col < 0) {
+      throw new IllegalArgumentException("Rows and columns cannot be negative");
+    }
+    this.row = row;
+    this.col = col;
+    this.wrapRow = wrapping && col > 2;
+  }
+
+  /**
+   * Generates the maze and passes every row to the sink, in order from the first to the last.
+   *
+   * @param random random object to randomly pick the walls to remove
+   * @param sink   receiver of the completed rows
+   * @throws IOException if the sink cannot store a row
+   */
+  public void generate(Random random, IMazeRowSink sink) throws IOException {
+    if (row == 0 || col == 0) {
+      return;
+    }
+    int[] sets = new int[col];
+    int[] nextSets = new int[col];
+    int[] parent = new int[col];
+    int[] remaining = new int[col];
+    boolean[] continues = new boolean[col];
+    boolean[] used = new boolean[col];
+    byte[] openings = new byte[col];
+    byte[] nextOpenings = new byte[col];
+
+    for (int c = 0; c < col; c++) {
+      sets[c] = c;
+    }
+
+    for (int r = 0; r < row; r++) {
+      boolean lastRow = r == row - 1;
+      for (int label = 0; label < col; label++) {
+        parent[label] = label;
+      }
+
+      //join neighbours in different sets, always in the last row and randomly otherwise
+      for (int c = 0; c < col; c++) {
+        if (c == col - 1 && !wrapRow) {
+          break;
+        }
+        int next = (c + 1) % col;
+        int root1 = find(parent, sets[c]);
+        int root2 = find(parent, sets[next]);
+        if (root1 != root2 && (lastRow || random.nextBoolean())) {
+          openings[c] |= EAST;
+          openings[next] |= WEST;
+          parent[root2] = root1;
+        }
+      }
+
+      if (!lastRow) {
+        for (int c = 0; c < col; c++) {
+          sets[c] = find(parent, sets[c]);
+        }
+
+        //every set continues downwards through at least one room
+        for (int label = 0; label < col; label++) {
+          remaining[label] = 0;
+          continues[label] = false;
+          used[label] = false;
+        }
+        for (int c = 0; c < col; c++) {
+          remaining[sets[c]]++;
+        }
+        for (int c = 0; c < col; c++) {
+          int label = sets[c];
+          remaining[label]--;
+          if (random.nextBoolean() || (remaining[label] == 0 && !continues[label])) {
+            openings[c] |= SOUTH;
+            nextOpenings[c] = NORTH;
+            continues[label] = true;
+            nextSets[c] = label;
+            used[label] = true;
+          } else {
+            nextOpenings[c] = 0;
+            nextSets[c] = -1;
+          }
+        }
+
+        //rooms that were not joined from above start a set of their own
+        int freeLabel = 0;
+        for (int c = 0; c < col; c++) {
+          if (nextSets[c] < 0) {
+            while (used[freeLabel]) {
+              freeLabel++;
+            }
+            nextSets[c] = freeLabel;
+            used[freeLabel] = true;
+          }
+        }
+      }
+
+      sink.acceptRow(r, openings);
+
+      int[] tempSets = sets;
+      sets = nextSets;
+      nextSets = tempSets;
+      byte[] tempOpenings = openings;
+      openings = nextOpenings;
+      nextOpenings = tempOpenings;
+      Arrays.fill(nextOpenings, (byte) 0);
+    }
+  }
+
+  public int getRow() {
+    return row;
+  }
+
+  public int getCol() {
+    return col;
+  }
+
+  private static int find(int[] parent, int label) {
+    while (parent[label] != label) {
+      parent[label] = parent[parent[label]];
+      label = parent[label];
+    }
+    return label;
+  }
+
+  private static byte bit(Direction direction) {
+    return (byte) direction.getBit();
+  }
+}
@@ -1,6 +1,7 @@
 package maze.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +10,17 @@ import java.util.Map;
  * Theme class for forest mode.
  */
 public class ThemeForest implements IThemeFeatures {
+  private static final Map<FeatureType, FeatureType> FEATURE_MAPPING;
+
+  static {
+    Map<FeatureType, FeatureType> mapping = new HashMap<>();
+    mapping.put(FeatureType.WUMPUS, FeatureType.LION);
+    mapping.put(FeatureType.BAT, FeatureType.ELEPHANT);
+    mapping.put(FeatureType.PIT, FeatureType.SWAMP);
+    mapping.put(FeatureType.ARROW, FeatureType.GUN);
+    FEATURE_MAPPING = Collections.unmodifiableMap(mapping);
+  }
+
   @Override
   public List<FeatureType> getFeaturesForTheme() {
     List<FeatureType> gameFeatures = new ArrayList<>();
@@ -20,12 +32,7 @@ public class ThemeForest implements IThemeFeatures {
 
   @Override
   public Map<FeatureType, FeatureType> getFeatureMappingForTheme() {
-    Map<FeatureType, FeatureType> gameFeatures = new HashMap();
-    gameFeatures.put(FeatureType.WUMPUS, FeatureType.LION);
-    gameFeatures.put(FeatureType.BAT, FeatureType.ELEPHANT);
-    gameFeatures.put(FeatureType.PIT, FeatureType.SWAMP);
-    gameFeatures.put(FeatureType.ARROW, FeatureType.GUN);
-    return gameFeatures;
+    return FEATURE_MAPPING;
   }
 
   @Override
@@ -1,6 +1,7 @@
 package maze.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +10,17 @@ import java.util.Map;
  * Theme class for marine mode.
  */
 public class ThemeMarine implements IThemeFeatures {
+  private static final Map<FeatureType, FeatureType> FEATURE_MAPPING;
+
+  static {
+    Map<FeatureType, FeatureType> mapping = new HashMap<>();
+    mapping.put(FeatureType.WUMPUS, FeatureType.SHARK);
+    mapping.put(FeatureType.BAT, FeatureType.SUBMARINE);
+    mapping.put(FeatureType.PIT, FeatureType.FISHNET);
+    mapping.put(FeatureType.ARROW, FeatureType.TRANQUILIZER);
+    FEATURE_MAPPING = Collections.unmodifiableMap(mapping);
+  }
+
   @Override
   public List<FeatureType> getFeaturesForTheme() {
     List<FeatureType> gameFeatures = new ArrayList<>();
@@ -20,12 +32,7 @@ public class ThemeMarine implements IThemeFeatures {
 
   @Override
   public Map<FeatureType, FeatureType> getFeatureMappingForTheme() {
-    Map<FeatureType, FeatureType> gameFeatures = new HashMap();
-    gameFeatures.put(FeatureType.WUMPUS, FeatureType.SHARK);
-    gameFeatures.put(FeatureType.BAT, FeatureType.SUBMARINE);
-    gameFeatures.put(FeatureType.PIT, FeatureType.FISHNET);
-    gameFeatures.put(FeatureType.ARROW, FeatureType.TRANQUILIZER);
-    return gameFeatures;
+    return FEATURE_MAPPING;
   }
 
   @Override
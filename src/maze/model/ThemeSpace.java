@@ -1,6 +1,7 @@
 package maze.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +10,17 @@ import java.util.Map;
  * Theme class for Space mode.
  */
 public class ThemeSpace implements IThemeFeatures {
+  private static final Map<FeatureType, FeatureType> FEATURE_MAPPING;
+
+  static {
+    Map<FeatureType, FeatureType> mapping = new HashMap<>();
+    mapping.put(FeatureType.WUMPUS, FeatureType.ASTEROID);
+    mapping.put(FeatureType.BAT, FeatureType.ALIEN);
+    mapping.put(FeatureType.PIT, FeatureType.BLACK_HOLE);
+    mapping.put(FeatureType.ARROW, FeatureType.SUPER_WEAPON);
+    FEATURE_MAPPING = Collections.unmodifiableMap(mapping);
+  }
+
   @Override
   public List<FeatureType> getFeaturesForTheme() {
     List<FeatureType> gameFeatures = new ArrayList<>();
@@ -20,12 +32,7 @@ public class ThemeSpace implements IThemeFeatures {
 
   @Override
   public Map<FeatureType, FeatureType> getFeatureMappingForTheme() {
-    Map<FeatureType, FeatureType> gameFeatures = new HashMap();
-    gameFeatures.put(FeatureType.WUMPUS, FeatureType.ASTEROID);
-    gameFeatures.put(FeatureType.BAT, FeatureType.ALIEN);
-    gameFeatures.put(FeatureType.PIT, FeatureType.BLACK_HOLE);
-    gameFeatures.put(FeatureType.ARROW, FeatureType.SUPER_WEAPON);
-    return gameFeatures;
+    return FEATURE_MAPPING;
   }
 
   @Override
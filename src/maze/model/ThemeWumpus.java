@@ -1,6 +1,7 @@
 package maze.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +10,18 @@ import java.util.Map;
  * Theme class for Wumpus mode.
  */
 public class ThemeWumpus implements IThemeFeatures {
+  //the mapping never changes, so it is built once and shared by every game of the theme
+  private static final Map<FeatureType, FeatureType> FEATURE_MAPPING;
+
+  static {
+    Map<FeatureType, FeatureType> mapping = new HashMap<>();
+    mapping.put(FeatureType.WUMPUS, FeatureType.WUMPUS);
+    mapping.put(FeatureType.BAT, FeatureType.BAT);
+    mapping.put(FeatureType.PIT, FeatureType.PIT);
+    mapping.put(FeatureType.ARROW, FeatureType.ARROW);
+    FEATURE_MAPPING = Collections.unmodifiableMap(mapping);
+  }
+
   @Override
   public List<FeatureType> getFeaturesForTheme() {
     List<FeatureType> wumpusGameFeatures = new ArrayList<>();
@@ -20,12 +33,7 @@ public class ThemeWumpus implements IThemeFeatures {
 
   @Override
   public Map<FeatureType, FeatureType> getFeatureMappingForTheme() {
-    Map<FeatureType, FeatureType> wumpusGameFeatures = new HashMap();
-    wumpusGameFeatures.put(FeatureType.WUMPUS, FeatureType.WUMPUS);
-    wumpusGameFeatures.put(FeatureType.BAT, FeatureType.BAT);
-    wumpusGameFeatures.put(FeatureType.PIT, FeatureType.PIT);
-    wumpusGameFeatures.put(FeatureType.ARROW, FeatureType.ARROW);
-    return wumpusGameFeatures;
+    return FEATURE_MAPPING;
   }
 
   @Override
@@ -1,6 +1,7 @@
 package maze.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -30,21 +31,15 @@ public class Tunnel extends AbstractRoom {
   @Override
   public List<Room> findAllConnectingTunnels(Direction direction) {
     List<Room> connectingTunnels = new ArrayList<>();
-    Direction incoming = getInverseDirection(direction);
-    for (Direction d : getPossibleMoves().keySet()) { //check between the 2 possible dirn
-      if (d != incoming) { //take the outgoing direction
-        if (getPossibleMoves().get(d).isCave()) {
-          connectingTunnels.add(this);
-          return connectingTunnels;
-        } else {
-          List<Room> found = getPossibleMoves().get(d).findAllConnectingTunnels(d);
-          if (found != null && found.size() != 0) {
-            connectingTunnels = found;
-          }
-        }
-      }
-    }
-    connectingTunnels.add(this);
+    Room room = this;
+    //a ring made only of tunnels leads back to this tunnel instead of a cave
+    do {
+      connectingTunnels.add(room);
+      direction = getWayOut(room, direction);
+      room = room.getPossibleMoves().get(direction);
+    } while (!room.isCave() && room != this);
+    //tunnels are listed from the far end of the corridor back to this tunnel
+    Collections.reverse(connectingTunnels);
     return connectingTunnels;
   }
 
@@ -0,0 +1,79 @@
+package maze.model;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renders a maze with Unicode box-drawing characters. Every room is three characters wide and
+ * every wall joint is drawn with the character connecting the walls meeting at that joint.
+ * Demolished wrapping walls show up as gaps in the boundary.
+ */
+public class UnicodeMazeRenderer implements IMazeRenderer {
+  //joints indexed by the walls meeting there: up = 1, down = 2, left = 4, right = 8
+  private static final char[] JOINTS = {' ', '\u2575', '\u2577', '\u2502', '\u2574', '\u2518',
+      '\u2510', '\u2524', '\u2576', '\u2514', '\u250c', '\u251c', '\u2500', '\u2534', '\u252c',
+      '\u253c'};
+  private static final String HORIZONTAL_WALL = "\u2500\u2500\u2500";
+  private static final char VERTICAL_WALL = '\u2502';
+
+  @Override
+  public void render(InterfaceMaze maze, Writer writer) throws IOException {
+    WallTopology topology = maze.getWallTopology();
+    int row = topology.getRow();
+    int col = topology.getCol();
+    StringBuilder line = new StringBuilder(4 * col + 2);
+
+    for (int r = 0; r <= row; r++) {
+      //walls above the row
+      line.setLength(0);
+      for (int c = 0; c <= col; c++) {
+        int joint = 0;
+        if (r > 0 && hasVerticalWall(topology, r - 1, c)) {
+          joint |= 1;
+        }
+        if (r < row && hasVerticalWall(topology, r, c)) {
+          joint |= 2;
+        }
+        if (c > 0 && hasHorizontalWall(topology, r, c - 1)) {
+          joint |= 4;
+        }
+        if (c < col && hasHorizontalWall(topology, r, c)) {
+          joint |= 8;
+        }
+        line.append(JOINTS[joint]);
+        if (c < col) {
+          line.append(hasHorizontalWall(topology, r, c) ? HORIZONTAL_WALL : "   ");
+        }
+      }
+      line.append('\n');
+      writer.append(line);
+
+      //the rooms of the row
+      if (r < row) {
+        line.setLength(0);
+        for (int c = 0; c <= col; c++) {
+          line.append(hasVerticalWall(topology, r, c) ? VERTICAL_WALL : ' ');
+          if (c < col) {
+            line.append("   ");
+          }
+        }
+        line.append('\n');
+        writer.append(line);
+      }
+    }
+  }
+
+  //wall on the west side of room (r, c), or on the east side of the last room when c == col
+  private boolean hasVerticalWall(WallTopology topology, int r, int c) {
+    int col = topology.getCol();
+    return c < col ? !topology.isOpen(r * col + c, Direction.WEST)
+                   : !topology.isOpen(r * col + col - 1, Direction.EAST);
+  }
+
+  //wall on the north side of room (r, c), or on the south side of the last room when r == row
+  private boolean hasHorizontalWall(WallTopology topology, int r, int c) {
+    int col = topology.getCol();
+    return r < topology.getRow() ? !topology.isOpen(r * col + c, Direction.NORTH)
+                                 : !topology.isOpen((r - 1) * col + c, Direction.SOUTH);
+  }
+}
@@ -0,0 +1,76 @@
+package maze.model;
+
+import java.util.Arrays;
+
+/**
+ * Disjoint sets over the integers 0 to size - 1, backed by a single primitive array. Used for
+ * tracking which rooms are already connected while walls are being removed.
+ */
+public class UnionFind {
+  //sets[element] is the parent of the element, or minus the size of the set for a root
+  private final int[] sets;
+  private int countSets;
+
+  /**
+   * Constructor where every element starts in a set of its own.
+   *
+   * @param size number of elements
+   */
+  public UnionFind(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("Size cannot be negative");
+    }
+    this.sets = new int[size];
+    Arrays.fill(sets, -1);
+    this.countSets = size;
+  }
+
+  /**
+   * Returns the representative element of the set containing the element.
+   *
+   * @param element element to look up
+   * @return representative of its set
+   */
+  public int find(int element) {
+    while (sets[element] >= 0) {
+      if (sets[sets[element]] >= 0) {
+        sets[element] = sets[sets[element]]; //path halving
+      }
+      element = sets[element];
+    }
+    return element;
+  }
+
+  /**
+   * Merges the sets containing the two elements.
+   *
+   * @param element1 first element
+   * @param element2 second element
+   * @return true if the elements were in different sets before the call
+   */
+  public boolean union(int element1, int element2) {
+    int root1 = find(element1);
+    int root2 = find(element2);
+    if (root1 == root2) {
+      return false;
+    }
+    if (sets[root1] > sets[root2]) { //attach the smaller set below the larger one
+      int temp = root1;
+      root1 = root2;
+      root2 = temp;
+    }
+    sets[root1] += sets[root2];
+    sets[root2] = root1;
+    countSets--;
+    return true;
+  }
+
+  /**
+   * Returns the number of disjoint sets.
+   *
+   * @return number of disjoint sets
+   */
+  public int getCountSets() {
+    return countSets;
+  }
+}
@@ -0,0 +1,104 @@
+package maze.model;
+
+import java.util.Random;
+
+/**
+ * Removes walls of a maze chosen uniformly at random. The walls still standing are kept in a
+ * compact array, every wall encoded as room * 2 for the wall to the east of the room and room * 2 +
+ * 1 for the wall to the south. Removing a wall swaps the last standing wall into its place, so
+ * removing k walls takes O(k) time regardless of the size of the maze.
+ */
+public class WallRemover {
+  private final WallTopology topology;
+  private final int[] walls;
+  private int countWalls;
+
+  private WallRemover(WallTopology topology, int[] walls, int countWalls) {
+    this.topology = topology;
+    this.walls = walls;
+    this.countWalls = countWalls;
+  }
+
+  /**
+   * Creates a remover for the inside walls of the topology which are still standing.
+   *
+   * @param topology wall topology of the maze
+   * @return remover for the standing inside walls
+   */
+  public static WallRemover insideWalls(WallTopology topology) {
+    int[] walls = topology.getGrid(false).getEdges();
+    int countWalls = 0;
+    for (int edge : walls) {
+      if (!topology.isOpen(GridTopology.getEdgeRoom(edge), GridTopology.getEdgeDirection(edge))) {
+        walls[countWalls++] = edge;
+      }
+    }
+    return new WallRemover(topology, walls, countWalls);
+  }
+
+  /**
+   * Creates a remover for the wrapping walls of the topology which are still standing. A grid
+   * with fewer than three columns (or rows) has no wrapping walls across its rows (or columns),
+   * since the rooms on both boundaries are already neighbours through an inside wall.
+   *
+   * @param topology wall topology of the maze
+   * @return remover for the standing wrapping walls
+   */
+  public static WallRemover wrappingWalls(WallTopology topology) {
+    int row = topology.getRow();
+    int col = topology.getCol();
+    int[] walls = new int[row + col];
+    int countWalls = 0;
+    if (col > 2) {
+      for (int r = 0; r < row; r++) {
+        int room = r * col + col - 1;
+        if (!topology.isOpen(room, Direction.EAST)) {
+          walls[countWalls++] = room << 1;
+        }
+      }
+    }
+    if (row > 2) {
+      for (int c = 0; c < col; c++) {
+        int room = (row - 1) * col + c;
+        if (!topology.isOpen(room, Direction.SOUTH)) {
+          walls[countWalls++] = (room << 1) | 1;
+        }
+      }
+    }
+    return new WallRemover(topology, walls, countWalls);
+  }
+
+  /**
+   * Returns the number of walls which can still be removed.
+   *
+   * @return number of standing walls
+   */
+  public int getCountWalls() {
+    return countWalls;
+  }
+
+  /**
+   * Removes the given number of standing walls, each chosen uniformly at random.
+   *
+   * @param numWallsToRemove number of walls to remove
+   * @param random           random object choosing the walls
+   * @throws IllegalArgumentException if the number is negative or more walls are requested than
+   *                                  are standing
+   */
+  public void removeRandomWalls(int numWallsToRemove, Random random) {
+    if (numWallsToRemove < 0) {
+      throw new IllegalArgumentException("Number of walls to remove cannot be negative");
+    }
+    if (numWallsToRemove > countWalls) {
+      throw new IllegalArgumentException("Cannot remove " + numWallsToRemove + " walls, only "
+                                                 + countWalls + " walls are standing");
+    }
+
+    for (int i = 0; i < numWallsToRemove; i++) {
+      int chosen = random.nextInt(countWalls);
+      int wall = walls[chosen];
+      walls[chosen] = walls[--countWalls];
+      topology.open(GridTopology.getEdgeRoom(wall), GridTopology.getEdgeDirection(wall));
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package maze.model;
+
+/**
+ * Compact store for the wall state of a maze grid. Instead of an adjacency matrix over all pairs
+ * of rooms, every room keeps a small bit mask of the directions in which its walls have been
+ * demolished. A room can only ever be connected to its four neighbours (including the wrapping
+ * neighbours on the boundary), so four bits per room are sufficient.
+ */
+public class WallTopology {
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final int row;
+  private final int col;
+  private final int countRooms;
+  private final GridTopology grid;
+  private final GridTopology planarGrid;
+
+  //openings[room] has bit (1 << direction.ordinal()) set when there is a path in that direction
+  private final byte[] openings;
+
+  /**
+   * Constructor for the topology of a row*column grid where every wall is still standing.
+   *
+   * @param row number of rows in the grid
+   * @param col number of columns in the grid
+   */
+  public WallTopology(int row, int col) {
+    if (row < 0 || col < 0) {
+      throw new IllegalArgumentException("Rows and columns cannot be negative");
+    }
+    this.row = row;
+    this.col = col;
+    this.countRooms = row * col;
+    this.grid = GridTopology.toroidal(row, col);
+    this.planarGrid = GridTopology.planar(row, col);
+    this.openings = new byte[countRooms];
+  }
+
+  /**
+   * Demolishes the wall between two neighbouring rooms. Rooms on opposite boundaries of the grid
+   * are treated as neighbours through the wrapping wall.
+   *
+   * @param room1 first room
+   * @param room2 second room
+   * @throws IllegalArgumentException if the rooms are not neighbours
+   */
+  public void open(int room1, int room2) {
+    Direction direction = getDirectionBetween(room1, room2);
+    if (direction == null) {
+      throw new IllegalArgumentException("Rooms " + room1 + " and " + room2
+                                                 + " are not neighbours");
+    }
+    openings[room1] |= bit(direction);
+    openings[room2] |= bit(direction.opposite());
+  }
+
+  /**
+   * Demolishes the wall of a room in the given direction, together with the matching wall of the
+   * neighbouring room.
+   *
+   * @param room      room ID
+   * @param direction direction of the wall
+   */
+  public void open(int room, Direction direction) {
+    int neighbour = getNeighbour(room, direction);
+    if (neighbour < 0) {
+      throw new IllegalArgumentException("Room " + room + " has no neighbour to the "
+                                                 + direction);
+    }
+    openings[room] |= bit(direction);
+    openings[neighbour] |= bit(direction.opposite());
+  }
+
+  /**
+   * Returns whether there is a path out of the room in the given direction.
+   *
+   * @param room      room ID
+   * @param direction direction to check
+   * @return true if the wall in that direction has been demolished
+   */
+  public boolean isOpen(int room, Direction direction) {
+    return (openings[room] & bit(direction)) != 0;
+  }
+
+  /**
+   * Returns whether there is a path between the two rooms.
+   *
+   * @param room1 first room
+   * @param room2 second room
+   * @return true if the rooms are neighbours and the wall between them has been demolished
+   */
+  public boolean isOpen(int room1, int room2) {
+    Direction direction = getDirectionBetween(room1, room2);
+    return direction != null && isOpen(room1, direction);
+  }
+
+  /**
+   * Returns the room next to the given room in a direction, wrapping around the boundary of a grid
+   * at least three rooms wide (or tall).
+   *
+   * @param room      room ID
+   * @param direction direction of the neighbour
+   * @return ID of the neighbouring room, or -1 if there is none in that direction
+   */
+  public int getNeighbour(int room, Direction direction) {
+    return grid.getNeighbour(room, direction);
+  }
+
+  /**
+   * Returns the direction in which room2 lies when seen from room1.
+   *
+   * @param room1 first room
+   * @param room2 second room
+   * @return direction from room1 to room2, or null if the rooms are not neighbours
+   */
+  public Direction getDirectionBetween(int room1, int room2) {
+    return grid.getDirectionBetween(room1, room2);
+  }
+
+  /**
+   * Returns the neighbourhood of the rooms, with or without the wrapping edges.
+   *
+   * @param wrapping true for the toroidal grid including the wrapping edges
+   * @return grid of the rooms
+   */
+  public GridTopology getGrid(boolean wrapping) {
+    return wrapping ? grid : planarGrid;
+  }
+
+  /**
+   * Returns the number of doors leading out of a room.
+   *
+   * @param room room ID
+   * @return number of demolished walls around the room
+   */
+  public int getCountDoors(int room) {
+    return Integer.bitCount(openings[room]);
+  }
+
+  /**
+   * Builds an adjacency matrix view of this topology where 1 indicates a path and 0 indicates a
+   * wall. The matrix needs countRooms * countRooms entries and is only meant for compatibility.
+   *
+   * @return adjacency matrix of all rooms
+   */
+  public int[][] toAdjacencyMatrix() {
+    int[][] matrix = new int[countRooms][countRooms];
+    for (int room = 0; room < countRooms; room++) {
+      for (Direction direction : DIRECTIONS) {
+        if (isOpen(room, direction)) {
+          matrix[room][getNeighbour(room, direction)] = 1;
+        }
+      }
+    }
+    return matrix;
+  }
+
+  /**
+   * Returns a copy of the opening masks of all rooms, indexed by room ID.
+   *
+   * @return opening masks with bit (1 &lt;&lt; direction.ordinal()) set for every path
+   */
+  byte[] copyOpenings() {
+    return openings.clone();
+  }
+
+  /**
+   * Replaces the opening masks of all rooms with the given ones.
+   *
+   * @param source opening masks indexed by room ID
+   * @throws IllegalArgumentException if there is not exactly one mask per room
+   */
+  void restoreOpenings(byte[] source) {
+    if (source.length != countRooms) {
+      throw new IllegalArgumentException("Expected " + countRooms + " rooms but found "
+                                                 + source.length);
+    }
+    System.arraycopy(source, 0, openings, 0, countRooms);
+  }
+
+  public int getRow() {
+    return row;
+  }
+
+  public int getCol() {
+    return col;
+  }
+
+  public int getCountRooms() {
+    return countRooms;
+  }
+
+  private static byte bit(Direction direction) {
+    return (byte) direction.getBit();
+  }
+}
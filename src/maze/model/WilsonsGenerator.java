@@ -0,0 +1,49 @@
+package maze.model;
+
+import java.util.Random;
+
+/**
+ * Generator that adds loop-erased random walks to the maze until every room is part of it, as in
+ * Wilson's algorithm. Every spanning tree of the grid is equally likely, so the maze has no bias
+ * towards either long corridors or short dead ends.
+ */
+public class WilsonsGenerator extends AbstractMazeGenerator {
+
+  @Override
+  public void generate(WallTopology topology, boolean wrapping, Random random) {
+    int countRooms = topology.getCountRooms();
+    if (countRooms == 0) {
+      return;
+    }
+    boolean[] inMaze = new boolean[countRooms];
+    //direction in which the walk last left a room, overwriting it erases the loops of the walk
+    Direction[] exit = new Direction[countRooms];
+    Direction[] directions = new Direction[DIRECTIONS.length];
+
+    inMaze[random.nextInt(countRooms)] = true;
+
+    for (int start = 0; start < countRooms; start++) {
+      int room = start;
+      while (!inMaze[room]) {
+        int countDirections = getNeighbourDirections(topology, room, wrapping, directions);
+        if (countDirections == 0) {
+          throw new IllegalStateException("Room " + room + " has no neighbours");
+        }
+        exit[room] = directions[random.nextInt(countDirections)];
+        room = topology.getNeighbour(room, exit[room]);
+      }
+
+      room = start;
+      while (!inMaze[room]) {
+        inMaze[room] = true;
+        topology.open(room, exit[room]);
+        room = topology.getNeighbour(room, exit[room]);
+      }
+    }
+  }
+
+  @Override
+  public GeneratorType getGeneratorType() {
+    return GeneratorType.WILSONS;
+  }
+}
@@ -339,7 +339,8 @@ public class MazeView extends JFrame implements IMazeView {
 
   @Override
   public void refreshViewWithModelState() {
-    for (int roomNumber : gameReadOnlyModel.getRoomNumbersToUpdate()) {
+    for (int roomNumber = gameReadOnlyModel.pollRoomToUpdate(); roomNumber >= 0;
+         roomNumber = gameReadOnlyModel.pollRoomToUpdate()) {
       JButton button = (JButton) getGamePanel().getComponent(roomNumber);
       button.setSize(80, 80);
 
@@ -0,0 +1,143 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import maze.model.Cave;
+import maze.model.CaveDistanceField;
+import maze.model.FeatureType;
+import maze.model.InterfaceMaze;
+import maze.model.MazeBuilder;
+import maze.model.MazeType;
+import maze.model.Room;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test class for the distance fields over the caves of a maze.
+ */
+public class CaveDistanceFieldTest {
+  private int randomSeed = 15000;
+  private InterfaceMaze maze;
+  private CaveDistanceField caveDistances;
+
+  @Before
+  public void setUp() {
+    Map<FeatureType, Integer> featureMap = new HashMap<>();
+    featureMap.put(FeatureType.WUMPUS, 1);
+    featureMap.put(FeatureType.PIT, 10);
+    maze = new MazeBuilder(10, 12, MazeType.IMPERFECT, true, randomSeed)
+                   .removeInsideWalls(40)
+                   .addFeatures(featureMap)
+                   .build();
+    caveDistances = maze.getCaveDistances();
+  }
+
+  @Test
+  public void distancesToWumpus() {
+    int wumpus = maze.getCavesWithFeature(FeatureType.WUMPUS).get(0).getRoomId();
+    int[] distances = caveDistances.getDistancesToFeature(FeatureType.WUMPUS);
+    assertEquals(0, distances[wumpus]);
+    assertArrayEquals(getDistances(wumpus), distances);
+  }
+
+  @Test
+  public void tunnelsAreUnreachable() {
+    int[] distances = caveDistances.getDistancesToFeature(FeatureType.WUMPUS);
+    for (Room room : maze.getRooms()) {
+      if (!room.isCave()) {
+        assertEquals(CaveDistanceField.UNREACHABLE, distances[room.getRoomId()]);
+      }
+    }
+  }
+
+  @Test
+  public void multipleSourcesTakeNearest() {
+    int[] expected = new int[maze.getCountRooms()];
+    Arrays.fill(expected, CaveDistanceField.UNREACHABLE);
+    for (Room pit : maze.getCavesWithFeature(FeatureType.PIT)) {
+      int[] single = getDistances(pit.getRoomId());
+      for (int i = 0; i < expected.length; i++) {
+        if (single[i] >= 0 && (expected[i] < 0 || single[i] < expected[i])) {
+          expected[i] = single[i];
+        }
+      }
+    }
+    assertArrayEquals(expected, caveDistances.getDistancesToFeature(FeatureType.PIT));
+  }
+
+  @Test
+  public void fieldsAreCached() {
+    int[] distances = caveDistances.getDistancesToFeature(FeatureType.PIT);
+    assertSame(distances, caveDistances.getDistancesToFeature(FeatureType.PIT));
+    assertSame(caveDistances, maze.getCaveDistances());
+  }
+
+  @Test
+  public void fieldFollowsFeatureChanges() {
+    //only the caves themselves can change their features, rooms of the maze are read-only
+    Cave wumpusCave = (Cave) maze.getCavesWithFeature(FeatureType.WUMPUS).get(0);
+    Cave other = (Cave) (maze.getAllCaves().get(0) == wumpusCave ? maze.getAllCaves().get(1)
+                                 : maze.getAllCaves().get(0));
+    int[] distances = caveDistances.getDistancesToFeature(FeatureType.WUMPUS);
+    assertEquals(0, distances[wumpusCave.getRoomId()]);
+
+    wumpusCave.removeFeature(FeatureType.WUMPUS);
+    other.addNewFeature(FeatureType.WUMPUS);
+    assertSame(distances, caveDistances.getDistancesToFeature(FeatureType.WUMPUS));
+    assertEquals(0, distances[other.getRoomId()]);
+    assertEquals(getDistances(other.getRoomId())[wumpusCave.getRoomId()],
+            distances[wumpusCave.getRoomId()]);
+  }
+
+  @Test
+  public void bufferIsReused() {
+    int[] buffer = new int[maze.getCountRooms()];
+    List<Room> caves = maze.getAllCaves();
+    int[] sources = {caves.get(0).getRoomId(), caves.get(caves.size() - 1).getRoomId()};
+    assertSame(buffer, caveDistances.computeDistances(sources, buffer));
+    assertEquals(0, buffer[sources[0]]);
+    assertEquals(0, buffer[sources[1]]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void wrongBufferSize() {
+    int[] sources = {maze.getAllCaves().get(0).getRoomId()};
+    caveDistances.computeDistances(sources, new int[1]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void sourceMustBeCave() {
+    for (Room room : maze.getRooms()) {
+      if (!room.isCave()) {
+        caveDistances.computeDistances(new int[]{room.getRoomId()}, null);
+      }
+    }
+  }
+
+  // breadth-first search over the adjacent caves of every cave
+  private int[] getDistances(int source) {
+    int[] distances = new int[maze.getCountRooms()];
+    Arrays.fill(distances, CaveDistanceField.UNREACHABLE);
+    distances[source] = 0;
+    Queue<Room> queue = new ArrayDeque<>();
+    queue.add(maze.getRoomById(source));
+    while (!queue.isEmpty()) {
+      Room cave = queue.remove();
+      for (Room next : cave.getAdjacentCaves().values()) {
+        if (distances[next.getRoomId()] < 0) {
+          distances[next.getRoomId()] = distances[cave.getRoomId()] + 1;
+          queue.add(next);
+        }
+      }
+    }
+    return distances;
+  }
+}
@@ -0,0 +1,136 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import maze.model.Cave;
+import maze.model.Direction;
+import maze.model.FeatureType;
+import maze.model.Smell;
+import maze.model.SmellName;
+import maze.model.Tunnel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the features and smells of a cave.
+ */
+public class CaveTest {
+  private Cave cave;
+
+  @Before
+  public void setUp() {
+    cave = new Cave(3, "C3");
+  }
+
+  @Test
+  public void addAndRemoveFeatures() {
+    assertFalse(cave.hasFeature(FeatureType.PIT));
+    cave.addNewFeature(FeatureType.PIT);
+    cave.addNewFeature(FeatureType.WUMPUS);
+    assertTrue(cave.hasFeature(FeatureType.PIT));
+    assertTrue(cave.hasFeature(FeatureType.WUMPUS));
+
+    cave.removeFeature(FeatureType.PIT);
+    assertFalse(cave.hasFeature(FeatureType.PIT));
+    assertTrue(cave.hasFeature(FeatureType.WUMPUS));
+  }
+
+  @Test
+  public void viewListsCommonFeatures() {
+    Map<FeatureType, Boolean> expected = new HashMap<>();
+    expected.put(FeatureType.WUMPUS, false);
+    expected.put(FeatureType.BAT, true);
+    expected.put(FeatureType.PIT, false);
+    expected.put(FeatureType.GOLD, false);
+    expected.put(FeatureType.THIEF, false);
+    cave.addNewFeature(FeatureType.BAT);
+    assertEquals(expected, cave.getFeatures());
+    assertNull(cave.getFeatures().get(FeatureType.ARROW));
+
+    cave.addNewFeature(FeatureType.ARROW);
+    assertTrue(cave.getFeatures().get(FeatureType.ARROW));
+    assertEquals(6, cave.getFeatures().size());
+  }
+
+  @Test
+  public void viewFollowsCave() {
+    Map<FeatureType, Boolean> features = cave.getFeatures();
+    cave.addNewFeature(FeatureType.GOLD);
+    assertTrue(features.get(FeatureType.GOLD));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void viewIsReadOnly() {
+    cave.getFeatures().put(FeatureType.PIT, true);
+  }
+
+  @Test
+  public void smellFollowsAdjacentFeatures() {
+    Cave east = new Cave(4, "C4");
+    Cave west = new Cave(2, "C2");
+    cave.addAdjacentCave(Direction.EAST, east);
+    cave.addAdjacentCave(Direction.WEST, west);
+    east.addAdjacentCave(Direction.WEST, cave);
+    west.addAdjacentCave(Direction.EAST, cave);
+    assertTrue(cave.getSmellIconSet().isEmpty());
+
+    east.addNewFeature(FeatureType.PIT);
+    west.addNewFeature(FeatureType.PIT);
+    east.addNewFeature(FeatureType.BAT);
+    assertEquals("PIT-You feel a draft\n", cave.getSmellDetails().toString());
+
+    west.addNewFeature(FeatureType.WUMPUS);
+    assertEquals("WUMPUS-You smell a Wumpus!\nPIT-You feel a draft\n",
+            cave.getSmellDetails().toString());
+    assertTrue(cave.getSmellIconSet().contains(SmellName.breeze));
+
+    east.removeFeature(FeatureType.PIT);
+    west.removeFeature(FeatureType.WUMPUS);
+    assertEquals("PIT-You feel a draft\n", cave.getSmellDetails().toString());
+    west.removeFeature(FeatureType.PIT);
+    assertTrue(cave.getSmellIconSet().isEmpty());
+  }
+
+  @Test
+  public void smellsAreShared() {
+    Cave other = new Cave(5, "C5");
+    assertSame(cave.getSmellDetails(), other.getSmellDetails());
+    assertSame(Smell.of(0), cave.getSmellDetails());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void sharedSmellIsReadOnly() {
+    cave.getSmellIconSet().add(SmellName.stench);
+  }
+
+  @Test
+  public void sharedSmellsCoverSmellingFeatures() {
+    int wumpus = 1 << FeatureType.WUMPUS.ordinal();
+    int pit = 1 << FeatureType.PIT.ordinal();
+    assertEquals("", Smell.of(0).toString());
+    assertEquals("WUMPUS-You smell a Wumpus!\n", Smell.of(wumpus).toString());
+    assertEquals("PIT-You feel a draft\n", Smell.of(pit).toString());
+    assertSame(Smell.of(wumpus | pit), Smell.of(pit | wumpus));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void batsCannotBeSmelled() {
+    Smell.of(1 << FeatureType.BAT.ordinal());
+  }
+
+  @Test
+  public void tunnelHasNoFeatures() {
+    assertFalse(new Tunnel(4).hasFeature(FeatureType.WUMPUS));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void tunnelFeatureCannotBeRemoved() {
+    new Tunnel(4).removeFeature(FeatureType.PIT);
+  }
+}
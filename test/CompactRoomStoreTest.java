@@ -0,0 +1,157 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import maze.model.Direction;
+import maze.model.FeatureType;
+import maze.model.GameWumpus;
+import maze.model.InterfaceMaze;
+import maze.model.InterfacePlayer;
+import maze.model.MazeBuilder;
+import maze.model.MazeSnapshot;
+import maze.model.MazeType;
+import maze.model.Player;
+import maze.model.Room;
+import maze.model.ThemeName;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for mazes keeping their rooms in primitive arrays.
+ */
+public class CompactRoomStoreTest {
+  private int randomSeed = 15000;
+  private InterfaceMaze objects;
+  private InterfaceMaze compact;
+
+  @Before
+  public void setUp() {
+    objects = createMaze(false);
+    compact = createMaze(true);
+  }
+
+  private InterfaceMaze createMaze(boolean compactRooms) {
+    Map<FeatureType, Integer> featureMap = new HashMap<>();
+    featureMap.put(FeatureType.WUMPUS, 1);
+    featureMap.put(FeatureType.BAT, 15);
+    featureMap.put(FeatureType.PIT, 15);
+    MazeBuilder builder = new MazeBuilder(9, 12, MazeType.IMPERFECT, true, randomSeed);
+    if (compactRooms) {
+      builder.compactRooms();
+    }
+    return builder.removeInsideWalls(40)
+                   .addFeatures(featureMap)
+                   .build();
+  }
+
+  @Test
+  public void sameMazeAsRoomObjects() {
+    assertEquals(MazeSnapshot.of(objects).getFingerprint(),
+            MazeSnapshot.of(compact).getFingerprint());
+    assertEquals(objects.validate().toString(), compact.validate().toString());
+    assertEquals(objects.getRooms().size(), compact.getRooms().size());
+    assertEquals(objects.getAllCaves().size(), compact.getAllCaves().size());
+  }
+
+  @Test
+  public void sameRoomsAsRoomObjects() {
+    for (int id = 0; id < objects.getCountRooms(); id++) {
+      Room expected = objects.getRoomById(id);
+      Room room = compact.getRoomById(id);
+      assertEquals(id, room.getRoomId());
+      assertEquals(expected.isCave(), room.isCave());
+      assertEquals(getIds(expected.getPossibleMoves()), getIds(room.getPossibleMoves()));
+      if (expected.isCave()) {
+        assertEquals(expected.getCaveId(), room.getCaveId());
+        assertEquals(expected.getFeatures(), room.getFeatures());
+        assertEquals(getIds(expected.getAdjacentCaves()), getIds(room.getAdjacentCaves()));
+        assertEquals(expected.getSmellDetails().toString(), room.getSmellDetails().toString());
+        for (Direction direction : Direction.values()) {
+          assertEquals(getId(expected.findCaveAtDistance(direction, 3)),
+                  getId(room.findCaveAtDistance(direction, 3)));
+          assertEquals(getIds(expected.getConnectingTunnels().get(direction)),
+                  getIds(room.getConnectingTunnels().get(direction)));
+        }
+      } else {
+        //entering the tunnel through its first door
+        Direction direction = expected.getPossibleMoves().keySet().iterator().next().opposite();
+        assertEquals(getIds(expected.findAllConnectingTunnels(direction)),
+                getIds(room.findAllConnectingTunnels(direction)));
+      }
+    }
+  }
+
+  @Test
+  public void roomsAreCreatedOnDemand() {
+    Room room = compact.getRoomById(5);
+    assertNotSame(room, compact.getRoomById(5));
+    assertEquals(room, compact.getRoomById(5));
+    assertEquals(room.hashCode(), compact.getRooms().get(5).hashCode());
+  }
+
+  @Test
+  public void featuresAreStoredInMaze() {
+    for (FeatureType featureType : FeatureType.values()) {
+      int countCaves = 0;
+      for (Room cave : compact.getAllCaves()) {
+        //every view of the cave reads the same feature bits
+        Room view = compact.getRoomById(cave.getRoomId());
+        assertEquals(cave.hasFeature(featureType), view.hasFeature(featureType));
+        if (view.hasFeature(featureType)) {
+          assertTrue(view.getFeatures().get(featureType));
+          countCaves++;
+        }
+      }
+      assertEquals(compact.getCavesWithFeature(featureType).size(), countCaves);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void tunnelHasNoFeatures() {
+    for (Room room : compact.getRooms()) {
+      if (!room.isCave()) {
+        room.getFeatures();
+      }
+    }
+  }
+
+  @Test
+  public void gameStartsAlike() {
+    assertEquals(createGame(objects).getPlayerById(1).getRoom().getRoomId(),
+            createGame(compact).getPlayerById(1).getRoom().getRoomId());
+  }
+
+  private GameWumpus createGame(InterfaceMaze maze) {
+    List<InterfacePlayer> players = new ArrayList<>();
+    players.add(new Player("player1"));
+    return new GameWumpus(maze, players, ThemeName.HUNT_THE_WUMPUS, randomSeed);
+  }
+
+  private Integer getId(Room room) {
+    return room == null ? null : room.getRoomId();
+  }
+
+  private Map<Direction, Integer> getIds(Map<Direction, Room> rooms) {
+    Map<Direction, Integer> ids = new HashMap<>();
+    for (Map.Entry<Direction, Room> room : rooms.entrySet()) {
+      ids.put(room.getKey(), room.getValue().getRoomId());
+    }
+    return ids;
+  }
+
+  private List<Integer> getIds(List<Room> rooms) {
+    List<Integer> ids = new ArrayList<>();
+    if (rooms != null) {
+      for (Room room : rooms) {
+        ids.add(room.getRoomId());
+      }
+    }
+    return ids;
+  }
+}
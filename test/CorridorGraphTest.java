@@ -0,0 +1,122 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import maze.model.AbstractRoom;
+import maze.model.Cave;
+import maze.model.CorridorGraph;
+import maze.model.Direction;
+import maze.model.Room;
+import maze.model.RoomIndex;
+import maze.model.Tunnel;
+import maze.model.WallTopology;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test class for the graph of corridors between caves.
+ */
+public class CorridorGraphTest {
+  private List<Room> rooms;
+  private CorridorGraph graph;
+
+  // 2x3 grid: 0 - 1 - 2 in the first row, 2 turns south into 5, 5 - 4 - 3 in the second row.
+  // Rooms 0 and 3 are dead ends (caves), 1, 2, 5 and 4 are tunnels.
+  @Before
+  public void setUp() {
+    WallTopology topology = new WallTopology(2, 3);
+    topology.open(0, 1);
+    topology.open(1, 2);
+    topology.open(2, 5);
+    topology.open(5, 4);
+    topology.open(4, 3);
+
+    rooms = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      rooms.add(topology.getCountDoors(i) == 2 ? new Tunnel(i) : new Cave(i, "C" + i));
+    }
+    graph = new CorridorGraph(topology, new RoomIndex(rooms));
+  }
+
+  @Test
+  public void collapseTunnelChain() {
+    assertEquals(1, graph.getCountCorridors());
+    assertSame(rooms.get(3), graph.getAdjacentCave(0, Direction.EAST));
+    assertSame(rooms.get(0), graph.getAdjacentCave(3, Direction.EAST));
+    assertEquals(5, graph.getCorridorLength(0, Direction.EAST));
+    assertEquals(5, graph.getCorridorLength(3, Direction.EAST));
+  }
+
+  @Test
+  public void tunnelsOrderedFromCave() {
+    assertArrayEquals(new int[]{1, 2, 5, 4}, graph.getTunnelIds(0, Direction.EAST));
+    assertArrayEquals(new int[]{4, 5, 2, 1}, graph.getTunnelIds(3, Direction.EAST));
+    assertSame(rooms.get(4), graph.getConnectingTunnels(3, Direction.EAST).get(0));
+  }
+
+  @Test
+  public void wallHasNoCorridor() {
+    assertNull(graph.getAdjacentCave(0, Direction.SOUTH));
+    assertEquals(0, graph.getCorridorLength(0, Direction.SOUTH));
+    assertEquals(0, graph.getTunnelIds(0, Direction.SOUTH).length);
+  }
+
+  @Test
+  public void arrowAtDistance() {
+    assertSame(rooms.get(0), graph.getCaveAtDistance(0, Direction.EAST, 1));
+    assertSame(rooms.get(3), graph.getCaveAtDistance(0, Direction.EAST, 2));
+    assertNull(graph.getCaveAtDistance(0, Direction.EAST, 3));
+    assertNull(graph.getCaveAtDistance(0, Direction.SOUTH, 2));
+    assertNull(graph.getCaveAtDistance(0, Direction.EAST, 0));
+  }
+
+  @Test
+  public void arrowCirclesAroundWrappingMaze() {
+    WallTopology topology = new WallTopology(3, 3);
+    List<Room> caves = new ArrayList<>();
+    for (int i = 0; i < 9; i++) {
+      topology.open(i, topology.getNeighbour(i, Direction.EAST));
+      topology.open(i, topology.getNeighbour(i, Direction.SOUTH));
+      caves.add(new Cave(i, "C" + i));
+    }
+    CorridorGraph torus = new CorridorGraph(topology, new RoomIndex(caves));
+
+    assertSame(caves.get(1), torus.getCaveAtDistance(0, Direction.EAST, 2));
+    assertSame(caves.get(0), torus.getCaveAtDistance(0, Direction.EAST, 4));
+    assertSame(caves.get(6), torus.getCaveAtDistance(0, Direction.NORTH, 2));
+    assertSame(caves.get(0), torus.getCaveAtDistance(0, Direction.WEST, 1000));
+    assertSame(caves.get(1), torus.getCaveAtDistance(0, Direction.WEST, Integer.MAX_VALUE - 1));
+  }
+
+  @Test
+  public void longTunnelDoesNotOverflowStack() {
+    int length = 100000;
+    WallTopology topology = new WallTopology(1, length);
+    List<Room> line = new ArrayList<>();
+    for (int i = 0; i < length - 1; i++) {
+      topology.open(i, i + 1);
+    }
+    for (int i = 0; i < length; i++) {
+      line.add(topology.getCountDoors(i) == 2 ? new Tunnel(i) : new Cave(i, "C" + i));
+    }
+    CorridorGraph corridor = new CorridorGraph(topology, new RoomIndex(line));
+    for (int i = 0; i < length - 1; i++) {
+      ((AbstractRoom) line.get(i)).addRoomInDirection(Direction.EAST, line.get(i + 1));
+      ((AbstractRoom) line.get(i + 1)).addRoomInDirection(Direction.WEST, line.get(i));
+    }
+
+    assertSame(line.get(length - 1), corridor.getCaveAtDistance(0, Direction.EAST, 2));
+    assertSame(line.get(length - 1), line.get(0).findCaveAtDistance(Direction.EAST, 2));
+    assertEquals(length - 2, line.get(1).findAllConnectingTunnels(Direction.EAST).size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void tunnelIsNotANode() {
+    graph.getAdjacentCave(1, Direction.EAST);
+  }
+}
@@ -0,0 +1,41 @@
+import org.junit.Test;
+
+import maze.model.Direction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test class for the directions of a move.
+ */
+public class DirectionTest {
+
+  @Test
+  public void opposites() {
+    assertSame(Direction.WEST, Direction.EAST.opposite());
+    assertSame(Direction.EAST, Direction.WEST.opposite());
+    assertSame(Direction.SOUTH, Direction.NORTH.opposite());
+    assertSame(Direction.NORTH, Direction.SOUTH.opposite());
+  }
+
+  @Test
+  public void deltasCancelWithOpposite() {
+    for (Direction direction : Direction.values()) {
+      assertEquals(1, Math.abs(direction.getRowDelta()) + Math.abs(direction.getColDelta()));
+      assertEquals(0, direction.getRowDelta() + direction.opposite().getRowDelta());
+      assertEquals(0, direction.getColDelta() + direction.opposite().getColDelta());
+    }
+    assertEquals(-1, Direction.NORTH.getRowDelta());
+    assertEquals(1, Direction.EAST.getColDelta());
+  }
+
+  @Test
+  public void bitsAreDistinct() {
+    int mask = 0;
+    for (Direction direction : Direction.values()) {
+      assertEquals(0, mask & direction.getBit());
+      mask |= direction.getBit();
+    }
+    assertEquals(15, mask);
+  }
+}
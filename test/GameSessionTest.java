@@ -0,0 +1,187 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import maze.model.Direction;
+import maze.model.FeatureType;
+import maze.model.Game;
+import maze.model.GameSession;
+import maze.model.GameWumpus;
+import maze.model.InterfaceMaze;
+import maze.model.InterfacePlayer;
+import maze.model.MazeBuilder;
+import maze.model.MazeType;
+import maze.model.Player;
+import maze.model.Room;
+import maze.model.SmellName;
+import maze.model.ThemeName;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for games sharing one maze through sessions of their own.
+ */
+public class GameSessionTest {
+  private int randomSeed = 15000;
+  private InterfaceMaze maze;
+
+  @Before
+  public void setUp() {
+    Map<FeatureType, Integer> featureMap = new HashMap<>();
+    featureMap.put(FeatureType.WUMPUS, 1);
+    featureMap.put(FeatureType.BAT, 10);
+    featureMap.put(FeatureType.PIT, 10);
+    maze = new MazeBuilder(6, 6, MazeType.IMPERFECT, true, randomSeed)
+                   .removeInsideWalls(20)
+                   .addFeatures(featureMap)
+                   .build();
+  }
+
+  private GameWumpus createGame() {
+    List<InterfacePlayer> players = new ArrayList<>();
+    players.add(new Player("player1"));
+    return new GameWumpus(maze, players, ThemeName.HUNT_THE_WUMPUS, randomSeed);
+  }
+
+  @Test
+  public void gamesShareMaze() {
+    GameWumpus first = createGame();
+    GameWumpus second = createGame();
+    int start = first.getPlayerById(1).getRoom().getRoomId();
+    assertTrue(first.isVisited(start));
+    assertTrue(second.isVisited(start));
+
+    Direction direction = first.getValidMoveForPlayer(1).get(0);
+    int next = first.getPlayerById(1).getRoom().getAdjacentCaves().get(direction).getRoomId();
+    first.movePlayer(direction, new Random(randomSeed));
+    assertTrue(first.isVisited(next));
+    assertFalse(second.isVisited(next));
+    assertEquals(start, second.getPlayerById(1).getRoom().getRoomId());
+  }
+
+  @Test
+  public void featureOverlay() {
+    GameSession session = new GameSession(maze);
+    GameSession other = new GameSession(maze);
+    Room wumpusCave = maze.getCavesWithFeature(FeatureType.WUMPUS).get(0);
+    int wumpus = wumpusCave.getRoomId();
+    assertTrue(session.hasFeature(wumpus, FeatureType.WUMPUS));
+
+    session.removeFeature(wumpus, FeatureType.WUMPUS);
+    assertFalse(session.hasFeature(wumpus, FeatureType.WUMPUS));
+    assertFalse(session.getFeatures(wumpus).get(FeatureType.WUMPUS));
+    assertTrue(other.hasFeature(wumpus, FeatureType.WUMPUS));
+    assertTrue(wumpusCave.getFeatures().get(FeatureType.WUMPUS));
+
+    session.addFeature(wumpus, FeatureType.GOLD);
+    assertTrue(session.hasFeature(wumpus, FeatureType.GOLD));
+    assertFalse(other.hasFeature(wumpus, FeatureType.GOLD));
+    session.removeFeature(wumpus, FeatureType.GOLD);
+    assertFalse(session.hasFeature(wumpus, FeatureType.GOLD));
+    session.addFeature(wumpus, FeatureType.WUMPUS);
+    assertTrue(session.hasFeature(wumpus, FeatureType.WUMPUS));
+  }
+
+  @Test
+  public void smellsFollowSession() {
+    Room wumpusCave = maze.getCavesWithFeature(FeatureType.WUMPUS).get(0);
+    int neighbour = wumpusCave.getAdjacentCaves().values().iterator().next().getRoomId();
+    SessionGame game = new SessionGame();
+    GameWumpus other = createGame();
+    assertTrue(game.getSmellsOfVisitedRoom(neighbour).contains(SmellName.breeze));
+
+    game.getSession().removeFeature(wumpusCave.getRoomId(), FeatureType.WUMPUS);
+    assertFalse(game.getSmellsOfVisitedRoom(neighbour).contains(SmellName.breeze));
+    assertTrue(other.getSmellsOfVisitedRoom(neighbour).contains(SmellName.breeze));
+  }
+
+  @Test
+  public void arrowHitsSessionWumpus() {
+    SessionGame game = new SessionGame();
+    Room start = game.getPlayerById(1).getRoom();
+    Direction direction = game.getValidMoveForPlayer(1).get(0);
+    int target = start.findCaveAtDistance(direction, 2).getRoomId();
+    for (Room wumpusCave : maze.getCavesWithFeature(FeatureType.WUMPUS)) {
+      game.getSession().removeFeature(wumpusCave.getRoomId(), FeatureType.WUMPUS);
+    }
+    game.getSession().addFeature(target, FeatureType.WUMPUS);
+
+    game.useArrow(direction, 1);
+    assertTrue(game.hasWon());
+    assertFalse(game.getSession().hasFeature(target, FeatureType.WUMPUS));
+    assertEquals(target, game.pollRoomToUpdate());
+    assertEquals(1, maze.getCavesWithFeature(FeatureType.WUMPUS).size());
+  }
+
+  @Test
+  public void goldCollectedInSession() {
+    Map<FeatureType, Integer> featureMap = new HashMap<>();
+    featureMap.put(FeatureType.GOLD, 50);
+    InterfaceMaze goldMaze = new MazeBuilder(6, 6, MazeType.IMPERFECT, true, randomSeed)
+                                     .removeInsideWalls(20)
+                                     .addFeatures(featureMap)
+                                     .build();
+    int start = goldMaze.getCavesWithFeature(FeatureType.GOLD).get(0).getRoomId();
+    Player player = new Player("player1");
+    SessionGoldGame game = new SessionGoldGame(goldMaze, player, start);
+    assertEquals(100, player.getGold());
+    assertFalse(game.getSession().hasFeature(start, FeatureType.GOLD));
+    assertTrue(goldMaze.getRoomById(start).hasFeature(FeatureType.GOLD));
+    assertTrue(new GameSession(goldMaze).hasFeature(start, FeatureType.GOLD));
+  }
+
+  @Test
+  public void visitedOnce() {
+    GameSession session = new GameSession(maze);
+    assertTrue(session.setVisited(7));
+    assertFalse(session.setVisited(7));
+    assertEquals(1, session.getCountVisited());
+  }
+
+  // Game giving the test access to its session.
+  private class SessionGame extends GameWumpus {
+    private SessionGame() {
+      super(maze, createPlayers(), ThemeName.HUNT_THE_WUMPUS, randomSeed);
+    }
+
+    @Override
+    protected GameSession getSession() {
+      return super.getSession();
+    }
+  }
+
+  // Game of finding the goal giving the test access to its session.
+  private static class SessionGoldGame extends Game {
+    private SessionGoldGame(InterfaceMaze maze, Player player, int start) {
+      super(maze, player, start, start == 0 ? 1 : 0);
+    }
+
+    @Override
+    protected GameSession getSession() {
+      return super.getSession();
+    }
+  }
+
+  private List<InterfacePlayer> createPlayers() {
+    List<InterfacePlayer> players = new ArrayList<>();
+    players.add(new Player("player1"));
+    return players;
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void noFeaturesInTunnel() {
+    GameSession session = new GameSession(maze);
+    for (Room room : maze.getRooms()) {
+      if (!room.isCave()) {
+        session.addFeature(room.getRoomId(), FeatureType.PIT);
+      }
+    }
+  }
+}
@@ -0,0 +1,73 @@
+import org.junit.Test;
+
+import maze.model.Direction;
+import maze.model.GridTopology;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the neighbourhood of the rooms in a grid.
+ */
+public class GridTopologyTest {
+
+  @Test
+  public void planarNeighbours() {
+    GridTopology grid = GridTopology.planar(3, 4);
+    assertEquals(1, grid.getNeighbour(0, Direction.EAST));
+    assertEquals(-1, grid.getNeighbour(0, Direction.WEST));
+    assertEquals(-1, grid.getNeighbour(0, Direction.NORTH));
+    assertEquals(4, grid.getNeighbour(0, Direction.SOUTH));
+    assertEquals(-1, grid.getNeighbour(11, Direction.EAST));
+    assertEquals(-1, grid.getNeighbour(11, Direction.SOUTH));
+    assertEquals(10, grid.getNeighbour(11, Direction.WEST));
+    assertEquals(7, grid.getNeighbour(11, Direction.NORTH));
+  }
+
+  @Test
+  public void toroidalNeighbours() {
+    GridTopology grid = GridTopology.toroidal(3, 4);
+    assertEquals(3, grid.getNeighbour(0, Direction.WEST));
+    assertEquals(8, grid.getNeighbour(0, Direction.NORTH));
+    assertEquals(8, grid.getNeighbour(11, Direction.EAST));
+    assertEquals(3, grid.getNeighbour(11, Direction.SOUTH));
+    assertEquals(Direction.WEST, grid.getDirectionBetween(4, 7));
+    assertEquals(Direction.SOUTH, grid.getDirectionBetween(9, 1));
+    assertNull(grid.getDirectionBetween(0, 5));
+  }
+
+  @Test
+  public void narrowGridDoesNotWrap() {
+    GridTopology grid = GridTopology.toroidal(2, 5);
+    assertFalse(grid.hasNeighbour(0, Direction.NORTH));
+    assertFalse(grid.hasNeighbour(5, Direction.SOUTH));
+    assertTrue(grid.hasNeighbour(4, Direction.EAST));
+    assertEquals(Direction.SOUTH, grid.getDirectionBetween(0, 5));
+    assertEquals(Direction.NORTH, grid.getDirectionBetween(5, 0));
+  }
+
+  @Test
+  public void edges() {
+    GridTopology planar = GridTopology.planar(3, 4);
+    GridTopology toroidal = GridTopology.toroidal(3, 4);
+    assertEquals(17, planar.getCountEdges());
+    assertEquals(24, toroidal.getCountEdges());
+    assertEquals(17, planar.getEdges().length);
+
+    int countWrapping = 0;
+    for (int edge : toroidal.getEdges()) {
+      int room = GridTopology.getEdgeRoom(edge);
+      Direction direction = GridTopology.getEdgeDirection(edge);
+      int neighbour = toroidal.getNeighbour(room, direction);
+      assertEquals(edge, toroidal.getEdgeBetween(room, neighbour));
+      assertEquals(edge, toroidal.getEdgeBetween(neighbour, room));
+      if (toroidal.isWrappingEdge(edge)) {
+        countWrapping++;
+      }
+    }
+    assertEquals(7, countWrapping);
+    assertEquals(-1, planar.getEdgeBetween(3, 0));
+  }
+}
@@ -3,6 +3,7 @@ import maze.model.ImperfectMaze;
 import maze.model.InterfaceMaze;
 import maze.model.MazeBuilder;
 import maze.model.MazeType;
+import maze.model.MazeValidationReport;
 import maze.model.Player;
 import maze.model.Room;
 
@@ -88,7 +89,7 @@ public class ImperfectMazeTest {
                                  .removeInsideWalls()
                                  .addFeatures(featureMap)
                                  .build();
-    assertEquals(7, maze.getAllWallsInMaze().size());
+    assertEquals(8, maze.getAllWallsInMaze().size());
   }
 
   @Test
@@ -158,7 +159,7 @@ public class ImperfectMazeTest {
     List<Room> rooms = imperfectMaze.getRooms();
     for (Room room : rooms) {
       if (room.getFeatures().get(FeatureType.BAT)) {
-        if (room.getRoomId() != 1 && room.getRoomId() != 7) {
+        if (room.getRoomId() != 1 && room.getRoomId() != 4) {
           fail("Correct rooms do not have a bat");
         }
       }
@@ -175,7 +176,7 @@ public class ImperfectMazeTest {
     List<Room> rooms = imperfectMaze.getRooms();
     for (Room room : rooms) {
       if (room.getFeatures().get(FeatureType.PIT)) {
-        if (room.getRoomId() != 1 && room.getRoomId() != 7) {
+        if (room.getRoomId() != 1 && room.getRoomId() != 4) {
           fail("Correct rooms do not have a pits");
         }
       }
@@ -217,8 +218,39 @@ public class ImperfectMazeTest {
     Set<int[]> walls = maze.getAllWallsInMaze();
     assertEquals(6, walls.size());
 
-    maze.removeAdditionalInsideWalls(2);
+    maze.removeAdditionalInsideWalls(random, 2);
     walls = maze.getAllWallsInMaze();
     assertEquals(4, walls.size());
   }
+
+  @Test
+  public void validateBuiltMaze() {
+    InterfaceMaze maze = new MazeBuilder(3, 4, MazeType.IMPERFECT, true, randomSeed)
+                                 .removeInsideWalls(3)
+                                 .removeWrappingWalls(2)
+                                 .addFeatures(featureMap)
+                                 .build();
+    MazeValidationReport report = maze.validate();
+    assertTrue(report.isValid());
+    assertTrue(report.isConnected());
+    assertEquals(12, report.getCountRooms());
+    assertEquals(1, report.getCountCavesWithFeature(FeatureType.WUMPUS));
+    assertEquals(Math.round(report.getCountCaves() * 0.4f),
+            report.getCountCavesWithFeature(FeatureType.BAT));
+  }
+
+  @Test
+  public void validateDisconnectedMaze() {
+    ImperfectMaze maze = new ImperfectMaze(2, 2, false);
+    maze.wallDemolish(0, 1);
+    maze.wallDemolish(2, 3);
+    MazeValidationReport report = maze.validate();
+    assertFalse(report.isValid());
+    assertFalse(report.isConnected());
+    assertEquals(2, report.getCountComponents());
+    assertEquals(1, report.getProblems().size());
+
+    maze.wallDemolish(1, 3);
+    assertTrue(maze.validate().isValid());
+  }
 }
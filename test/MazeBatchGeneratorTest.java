@@ -0,0 +1,91 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import maze.model.GameInput;
+import maze.model.IGameInput;
+import maze.model.MazeBatchGenerator;
+import maze.model.MazeBatchResult;
+import maze.model.MazeCache;
+import maze.model.MazeCreator;
+import maze.model.MazeSnapshot;
+import maze.model.ThemeName;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for generating batches of mazes.
+ */
+public class MazeBatchGeneratorTest {
+  private IGameInput template;
+  private MazeBatchGenerator batchGenerator;
+
+  @Before
+  public void setUp() {
+    template = new GameInput(ThemeName.HUNT_THE_WUMPUS, true, false, 12, 15, 1,
+            "player1", "player2", 3, 3);
+    template.setRemainingWalls(60);
+    template.setPercentBats(15);
+    template.setPercentPits(10);
+    batchGenerator = new MazeBatchGenerator(template);
+  }
+
+  @Test
+  public void generateRange() {
+    List<MazeBatchResult> results = batchGenerator.generate(100, 164)
+                                            .sorted((a, b) -> a.getSeed() - b.getSeed())
+                                            .collect(Collectors.toList());
+    assertEquals(64, results.size());
+    Set<Long> fingerprints = new HashSet<>();
+    for (int i = 0; i < results.size(); i++) {
+      MazeBatchResult result = results.get(i);
+      assertEquals(100 + i, result.getSeed());
+      assertTrue(result.getError(), result.isValid());
+      assertEquals(180, result.getReport().getCountRooms());
+      fingerprints.add(result.getFingerprint());
+    }
+    assertEquals(64, fingerprints.size());
+  }
+
+  @Test
+  public void parallelMatchesSerial() {
+    Map<Integer, Long> fingerprints = new ConcurrentHashMap<>();
+    batchGenerator.generate(0, 32, result -> fingerprints.put(result.getSeed(),
+            result.getFingerprint()));
+    assertEquals(32, fingerprints.size());
+    for (int seed = 0; seed < 32; seed++) {
+      assertEquals((long) fingerprints.get(seed), batchGenerator.generate(seed).getFingerprint());
+    }
+  }
+
+  @Test
+  public void sameMazeAsCreator() {
+    MazeCreator mazeCreator = new MazeCreator(new MazeCache(1000));
+    long expected = MazeSnapshot.of(mazeCreator.generateMazeFromCorrectInput(template))
+                            .getFingerprint();
+    assertEquals(expected, batchGenerator.generate(MazeCreator.DEFAULT_SEED).getFingerprint());
+  }
+
+  @Test
+  public void emptyRange() {
+    assertEquals(0, batchGenerator.generate(5, 5).count());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidRange() {
+    batchGenerator.generate(5, 4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidTemplate() {
+    new MazeBatchGenerator(new GameInput(ThemeName.HUNT_THE_WUMPUS, true, false, 2, 2, 1,
+            "player1", "player2", 3, 3));
+  }
+}
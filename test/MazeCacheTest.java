@@ -0,0 +1,127 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import maze.model.Direction;
+import maze.model.GameInput;
+import maze.model.GameWumpus;
+import maze.model.IGameInput;
+import maze.model.InterfaceMaze;
+import maze.model.InterfacePlayer;
+import maze.model.MazeCache;
+import maze.model.MazeCreator;
+import maze.model.Player;
+import maze.model.ThemeName;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the cache of generated mazes.
+ */
+public class MazeCacheTest {
+  private IGameInput gameInput;
+  private MazeCache cache;
+  private MazeCreator mazeCreator;
+
+  @Before
+  public void setUp() {
+    gameInput = createInput(8, 9);
+    cache = new MazeCache(1000);
+    mazeCreator = new MazeCreator(cache);
+  }
+
+  private IGameInput createInput(int rows, int columns) {
+    IGameInput input = new GameInput(ThemeName.HUNT_THE_WUMPUS, true, false, rows, columns, 1,
+            "player1", "player2", 3, 3);
+    input.setRemainingWalls(40);
+    input.setPercentBats(20);
+    input.setPercentPits(20);
+    return input;
+  }
+
+  @Test
+  public void restartHitsCache() {
+    InterfaceMaze first = mazeCreator.generateMazeFromCorrectInput(gameInput);
+    assertEquals(0, cache.getCountHits());
+    assertEquals(1, cache.getCountMisses());
+
+    InterfaceMaze second = mazeCreator.generateMazeFromCorrectInput(gameInput);
+    assertEquals(1, cache.getCountHits());
+    assertEquals(1, cache.getCountMisses());
+    assertEquals(72, cache.getCountRooms());
+
+    //the restarted game shares the maze, no copy is built
+    assertSame(first, second);
+    assertTrue(second.validate().isConnected());
+  }
+
+  @Test
+  public void gamesOnCachedMazeAreIndependent() {
+    InterfaceMaze maze = mazeCreator.generateMazeFromCorrectInput(gameInput);
+    GameWumpus first = createGame(maze);
+    GameWumpus second = createGame(mazeCreator.generateMazeFromCorrectInput(gameInput));
+    int start = first.getPlayerById(1).getRoom().getRoomId();
+
+    Direction direction = first.getValidMoveForPlayer(1).get(0);
+    first.movePlayer(direction, new Random(15000));
+    int next = first.getPlayerById(1).getRoom().getRoomId();
+    assertTrue(first.isVisited(next));
+    assertFalse(second.isVisited(next));
+    assertEquals(start, second.getPlayerById(1).getRoom().getRoomId());
+  }
+
+  private GameWumpus createGame(InterfaceMaze maze) {
+    List<InterfacePlayer> players = new ArrayList<>();
+    players.add(new Player("player1"));
+    return new GameWumpus(maze, players, ThemeName.HUNT_THE_WUMPUS, 15000);
+  }
+
+  @Test
+  public void differentParametersMiss() {
+    mazeCreator.generateMazeFromCorrectInput(gameInput);
+    gameInput.setPercentPits(30);
+    mazeCreator.generateMazeFromCorrectInput(gameInput);
+    assertEquals(0, cache.getCountHits());
+    assertEquals(2, cache.getCountMisses());
+    assertEquals(2, cache.getCountEntries());
+  }
+
+  @Test
+  public void evictLeastRecentlyUsed() {
+    MazeCache smallCache = new MazeCache(200);
+    IGameInput first = createInput(8, 9);
+    IGameInput second = createInput(9, 9);
+    IGameInput third = createInput(7, 9);
+    InterfaceMaze maze = new MazeCreator(smallCache).generateMazeFromCorrectInput(first);
+
+    smallCache.put(new MazeCache.Key(first, 1), maze);
+    smallCache.put(new MazeCache.Key(second, 1), maze);
+    //touching the first key makes the second one the least recently used
+    smallCache.getOrCreate(new MazeCache.Key(first, 1), () -> null);
+    smallCache.put(new MazeCache.Key(third, 1), maze);
+
+    assertEquals(2, smallCache.getCountEntries());
+    assertEquals(144, smallCache.getCountRooms());
+    assertNull(smallCache.getOrCreate(new MazeCache.Key(second, 1), () -> null));
+  }
+
+  @Test
+  public void tooLargeNotCached() {
+    MazeCache tinyCache = new MazeCache(50);
+    new MazeCreator(tinyCache).generateMazeFromCorrectInput(gameInput);
+    assertEquals(0, tinyCache.getCountEntries());
+    assertEquals(0, tinyCache.getCountRooms());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidCacheSize() {
+    new MazeCache(0);
+  }
+}
@@ -0,0 +1,97 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import maze.model.Direction;
+import maze.model.FeatureType;
+import maze.model.InterfaceMaze;
+import maze.model.MazeBuilder;
+import maze.model.MazeFile;
+import maze.model.MazeType;
+import maze.model.Room;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for storing mazes in binary files.
+ */
+public class MazeFileTest {
+  private int randomSeed = 15000;
+  private Map<FeatureType, Integer> featureMap;
+  private Path path;
+
+  @Before
+  public void setUp() throws IOException {
+    featureMap = new HashMap<>();
+    featureMap.put(FeatureType.WUMPUS, 1);
+    featureMap.put(FeatureType.BAT, 20);
+    featureMap.put(FeatureType.PIT, 20);
+    path = Files.createTempFile("maze", ".bin");
+    path.toFile().deleteOnExit();
+  }
+
+  @Test
+  public void writeAndLoad() throws IOException {
+    InterfaceMaze maze = new MazeBuilder(5, 7, MazeType.IMPERFECT, true, randomSeed)
+                                 .removeInsideWalls(4)
+                                 .removeWrappingWalls(3)
+                                 .addFeatures(featureMap)
+                                 .build();
+    MazeFile.write(maze, randomSeed, path);
+
+    MazeFile file = MazeFile.open(path);
+    assertEquals(5, file.getRow());
+    assertEquals(7, file.getCol());
+    assertTrue(file.getWrappingFlag());
+    assertEquals(MazeType.IMPERFECT, file.getMazeType());
+    assertEquals(randomSeed, file.getSeed());
+
+    InterfaceMaze loaded = file.toMaze();
+    assertTrue(loaded.equalsImperfect());
+    assertTrue(loaded.validate().isConnected());
+    for (int room = 0; room < maze.getCountRooms(); room++) {
+      Room original = maze.getRoomById(room);
+      Room copy = loaded.getRoomById(room);
+      assertEquals(original.isCave(), copy.isCave());
+      for (Direction direction : Direction.values()) {
+        assertEquals(maze.getWallTopology().isOpen(room, direction),
+                file.isOpen(room, direction));
+        assertEquals(maze.getWallTopology().isOpen(room, direction),
+                loaded.getWallTopology().isOpen(room, direction));
+      }
+      if (original.isCave()) {
+        assertEquals(original.getFeatures(), copy.getFeatures());
+        assertEquals(original.getFeatures().get(FeatureType.BAT),
+                file.hasFeature(room, FeatureType.BAT));
+        assertEquals(original.getAdjacentCaves().keySet(), copy.getAdjacentCaves().keySet());
+      }
+    }
+    assertFalse(file.hasFeature(0, FeatureType.GOLD));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void notAMazeFile() throws IOException {
+    Files.write(path, "not a maze file at all, just some text".getBytes());
+    MazeFile.open(path);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void truncatedFile() throws IOException {
+    InterfaceMaze maze = new MazeBuilder(3, 4, MazeType.PERFECT, false, randomSeed)
+                                 .removeInsideWalls()
+                                 .addFeatures(featureMap)
+                                 .build();
+    MazeFile.write(maze, randomSeed, path);
+    byte[] bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+    MazeFile.open(path);
+  }
+}
@@ -0,0 +1,216 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import maze.model.AldousBroderGenerator;
+import maze.model.Direction;
+import maze.model.EllersGenerator;
+import maze.model.FeatureType;
+import maze.model.GeneratorType;
+import maze.model.IMazeGenerator;
+import maze.model.InterfaceMaze;
+import maze.model.KruskalsGenerator;
+import maze.model.MazeBuilder;
+import maze.model.MazeType;
+import maze.model.ParallelTiledGenerator;
+import maze.model.PrimsGenerator;
+import maze.model.RecursiveBacktrackerGenerator;
+import maze.model.WallTopology;
+import maze.model.WilsonsGenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the maze generation algorithms.
+ */
+public class MazeGeneratorTest {
+  private int randomSeed = 15000;
+  private Map<FeatureType, Integer> featureMap;
+
+  @Before
+  public void setUp() {
+    featureMap = new HashMap<>();
+    featureMap.put(FeatureType.WUMPUS, 1);
+    featureMap.put(FeatureType.PIT, 10);
+  }
+
+  private IMazeGenerator[] getAllGenerators() {
+    return new IMazeGenerator[]{new PrimsGenerator(), new KruskalsGenerator(),
+        new RecursiveBacktrackerGenerator(), new WilsonsGenerator(), new AldousBroderGenerator(),
+        new EllersGenerator(), new ParallelTiledGenerator(3, ForkJoinPool.commonPool())};
+  }
+
+  // Counts the doors and verifies every room is reachable from the first room.
+  private void assertSpanningTree(WallTopology topology) {
+    int countDoors = 0;
+    for (int room = 0; room < topology.getCountRooms(); room++) {
+      countDoors += topology.getCountDoors(room);
+    }
+    assertEquals(2 * (topology.getCountRooms() - 1), countDoors);
+
+    boolean[] reached = new boolean[topology.getCountRooms()];
+    Deque<Integer> queue = new ArrayDeque<>();
+    queue.add(0);
+    reached[0] = true;
+    int countReached = 1;
+    while (!queue.isEmpty()) {
+      int room = queue.poll();
+      for (Direction direction : Direction.values()) {
+        int next = topology.getNeighbour(room, direction);
+        if (topology.isOpen(room, direction) && !reached[next]) {
+          reached[next] = true;
+          countReached++;
+          queue.add(next);
+        }
+      }
+    }
+    assertEquals(topology.getCountRooms(), countReached);
+  }
+
+  // Counts the open walls leading from the last column to the first, or the last row to the first.
+  private int countWrappingWalls(WallTopology topology, Direction direction) {
+    int count = 0;
+    int col = topology.getCol();
+    for (int room = 0; room < topology.getCountRooms(); room++) {
+      boolean lastInLine = direction == Direction.EAST ? room % col == col - 1
+                                   : room / col == topology.getRow() - 1;
+      if (lastInLine && topology.isOpen(room, direction)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Test
+  public void generatesPerfectMaze() {
+    for (IMazeGenerator generator : getAllGenerators()) {
+      WallTopology topology = new WallTopology(7, 9);
+      generator.generate(topology, false, new Random(randomSeed));
+      assertSpanningTree(topology);
+    }
+  }
+
+  @Test
+  public void generatesPerfectWrappingMaze() {
+    for (IMazeGenerator generator : getAllGenerators()) {
+      int countEastWrapping = 0;
+      int countSouthWrapping = 0;
+      for (int seed = 0; seed < 5; seed++) {
+        WallTopology topology = new WallTopology(6, 5);
+        generator.generate(topology, true, new Random(seed));
+        assertSpanningTree(topology);
+        countEastWrapping += countWrappingWalls(topology, Direction.EAST);
+        countSouthWrapping += countWrappingWalls(topology, Direction.SOUTH);
+      }
+      assertTrue(countEastWrapping > 0);
+      if (generator.getGeneratorType() == GeneratorType.ELLERS) {
+        //Eller's generator only wraps around its columns
+        assertEquals(0, countSouthWrapping);
+      } else {
+        assertTrue(countSouthWrapping > 0);
+      }
+    }
+  }
+
+  @Test
+  public void generatesSingleRowAndColumn() {
+    for (IMazeGenerator generator : getAllGenerators()) {
+      WallTopology topology = new WallTopology(1, 6);
+      generator.generate(topology, false, new Random(randomSeed));
+      assertSpanningTree(topology);
+
+      topology = new WallTopology(6, 1);
+      generator.generate(topology, true, new Random(randomSeed));
+      assertSpanningTree(topology);
+    }
+  }
+
+  @Test
+  public void generationIsReproducible() {
+    for (IMazeGenerator generator : getAllGenerators()) {
+      WallTopology first = new WallTopology(8, 8);
+      WallTopology second = new WallTopology(8, 8);
+      generator.generate(first, true, new Random(randomSeed));
+      generator.generate(second, true, new Random(randomSeed));
+      for (int room = 0; room < first.getCountRooms(); room++) {
+        for (Direction direction : Direction.values()) {
+          assertEquals(first.isOpen(room, direction), second.isOpen(room, direction));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void tiledGenerationIndependentOfThreads() {
+    ForkJoinPool singleThread = new ForkJoinPool(1);
+    ForkJoinPool fourThreads = new ForkJoinPool(4);
+    WallTopology first = new WallTopology(20, 17);
+    WallTopology second = new WallTopology(20, 17);
+    new ParallelTiledGenerator(4, singleThread).generate(first, true, new Random(randomSeed));
+    new ParallelTiledGenerator(4, fourThreads).generate(second, true, new Random(randomSeed));
+    singleThread.shutdown();
+    fourThreads.shutdown();
+
+    assertSpanningTree(second);
+    for (int room = 0; room < first.getCountRooms(); room++) {
+      for (Direction direction : Direction.values()) {
+        assertEquals(first.isOpen(room, direction), second.isOpen(room, direction));
+      }
+    }
+  }
+
+  @Test
+  public void tiledGenerationOpensWrappingWalls() {
+    //a single default tile spans the whole grid, two tiles of 4 span the rows and columns
+    IMazeGenerator[] generators = {new ParallelTiledGenerator(),
+        new ParallelTiledGenerator(4, ForkJoinPool.commonPool())};
+    for (IMazeGenerator generator : generators) {
+      int countWrapping = 0;
+      for (int seed = 0; seed < 5; seed++) {
+        WallTopology topology = new WallTopology(8, 7);
+        generator.generate(topology, true, new Random(seed));
+        assertSpanningTree(topology);
+        countWrapping += countWrappingWalls(topology, Direction.EAST)
+                                 + countWrappingWalls(topology, Direction.SOUTH);
+      }
+      assertTrue(countWrapping > 0);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidTileSize() {
+    new ParallelTiledGenerator(0, ForkJoinPool.commonPool());
+  }
+
+  @Test
+  public void builderUsesGenerator() {
+    for (GeneratorType generatorType : GeneratorType.values()) {
+      InterfaceMaze maze = new MazeBuilder(5, 6, MazeType.IMPERFECT, false, randomSeed,
+              generatorType)
+                                   .removeInsideWalls(10)
+                                   .addFeatures(featureMap)
+                                   .build();
+      assertEquals(10, maze.getAllWallsInMaze().size());
+      assertTrue(maze.getAllCaves().size() > 0);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builderRejectsWrappingRowsForEllers() {
+    new MazeBuilder(5, 6, MazeType.PERFECT, true, randomSeed, GeneratorType.ELLERS);
+  }
+
+  @Test
+  public void builderWrapsColumnsForEllers() {
+    //two rows have no wrapping walls between the last and the first row
+    new MazeBuilder(2, 6, MazeType.PERFECT, true, randomSeed, GeneratorType.ELLERS)
+            .removeInsideWalls();
+  }
+}
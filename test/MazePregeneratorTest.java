@@ -0,0 +1,97 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import maze.model.GameInput;
+import maze.model.IGameInput;
+import maze.model.InterfaceMaze;
+import maze.model.MazeCache;
+import maze.model.MazeCreator;
+import maze.model.MazePregenerator;
+import maze.model.ThemeName;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for generating mazes in the background.
+ */
+public class MazePregeneratorTest {
+  private MazeCache cache;
+  private MazePregenerator pregenerator;
+
+  @Before
+  public void setUp() {
+    cache = new MazeCache(100000);
+    pregenerator = new MazePregenerator(new MazeCreator(cache), 2, 3);
+  }
+
+  @After
+  public void tearDown() {
+    pregenerator.shutdown();
+  }
+
+  private IGameInput createInput(int rows, int columns) {
+    IGameInput input = new GameInput(ThemeName.HUNT_THE_WUMPUS, false, true, rows, columns, 1,
+            "player1", "player2", 3, 3);
+    input.setPercentBats(10);
+    input.setPercentPits(10);
+    return input;
+  }
+
+  @Test
+  public void takePredictedMaze() {
+    IGameInput gameInput = createInput(30, 30);
+    assertTrue(pregenerator.prefetch(gameInput, 1));
+    assertFalse(pregenerator.prefetch(gameInput, 1));
+    assertEquals(1, pregenerator.getCountPredicted());
+
+    InterfaceMaze maze = pregenerator.take(gameInput, 1);
+    assertNotNull(maze);
+    assertEquals(900, maze.getCountRooms());
+    assertEquals(0, pregenerator.getCountPredicted());
+    assertEquals(1, cache.getCountMisses());
+  }
+
+  @Test
+  public void takeWithoutPrediction() {
+    IGameInput gameInput = createInput(6, 6);
+    InterfaceMaze maze = pregenerator.take(gameInput, 1);
+    assertEquals(36, maze.getCountRooms());
+    assertEquals(0, pregenerator.getCountPredicted());
+  }
+
+  @Test
+  public void predictionsAreBounded() {
+    for (int seed = 0; seed < 10; seed++) {
+      assertTrue(pregenerator.prefetch(createInput(20, 20), seed));
+      assertTrue(pregenerator.getCountPredicted() <= 3);
+    }
+    assertEquals(3, pregenerator.getCountPredicted());
+    //the newest predictions are kept
+    assertEquals(400, pregenerator.take(createInput(20, 20), 9).getCountRooms());
+    assertEquals(2, pregenerator.getCountPredicted());
+  }
+
+  @Test
+  public void invalidInputNotPredicted() {
+    assertFalse(pregenerator.prefetch(createInput(2, 2), 1));
+    assertEquals(0, pregenerator.getCountPredicted());
+  }
+
+  @Test
+  public void noPredictionAfterShutdown() {
+    pregenerator.prefetch(createInput(10, 10), 1);
+    pregenerator.shutdown();
+    assertEquals(0, pregenerator.getCountPredicted());
+    assertFalse(pregenerator.prefetch(createInput(10, 10), 2));
+    assertEquals(100, pregenerator.take(createInput(10, 10), 1).getCountRooms());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidReadyCount() {
+    new MazePregenerator(new MazeCreator(cache), 1, 0);
+  }
+}
@@ -0,0 +1,86 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import maze.model.AsciiMazeRenderer;
+import maze.model.CompactMazeRenderer;
+import maze.model.ImperfectMaze;
+import maze.model.InterfaceMaze;
+import maze.model.MazeBuilder;
+import maze.model.MazeType;
+import maze.model.UnicodeMazeRenderer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the maze renderers.
+ */
+public class MazeRendererTest {
+  private InterfaceMaze maze;
+  private StringWriter writer;
+
+  // 2x3 maze with paths 0-1, 1-2, 1-4 and 3-4.
+  @Before
+  public void setUp() {
+    maze = new ImperfectMaze(2, 3, false);
+    maze.wallDemolish(0, 1);
+    maze.wallDemolish(1, 2);
+    maze.wallDemolish(1, 4);
+    maze.wallDemolish(3, 4);
+    writer = new StringWriter();
+  }
+
+  @Test
+  public void renderAscii() throws IOException {
+    new AsciiMazeRenderer().render(maze, writer);
+    assertEquals("Maze is wrapping false\n"
+                         + "Rooms look like:\n"
+                         + "__\t__\t__\t\n"
+                         + "|0\t 1\t 2\t|\n"
+                         + "__\t\t__\t\n"
+                         + "|3\t 4\t|5\t|\n"
+                         + "__\t__\t__\t\n"
+                         + "\n", writer.toString());
+  }
+
+  @Test
+  public void renderUnicode() throws IOException {
+    new UnicodeMazeRenderer().render(maze, writer);
+    // the rooms are drawn as:
+    //   +-----------+
+    //   |           |
+    //   +----   +---+
+    //   |       |   |
+    //   +-------+---+
+    assertEquals("\u250c\u2500\u2500\u2500\u2500\u2500\u2500\u2500"
+                         + "\u2500\u2500\u2500\u2500\u2510\n"
+                         + "\u2502           \u2502\n"
+                         + "\u251c\u2500\u2500\u2500\u2574   \u250c\u2500\u2500\u2500\u2524\n"
+                         + "\u2502       \u2502   \u2502\n"
+                         + "\u2514\u2500\u2500\u2500\u2500\u2500\u2500\u2500"
+                         + "\u2534\u2500\u2500\u2500\u2518\n",
+            writer.toString());
+  }
+
+  @Test
+  public void renderCompact() throws IOException {
+    new CompactMazeRenderer().render(maze, writer);
+    assertEquals("2 3\n"
+                         + "1b2\n"
+                         + "160\n", writer.toString());
+  }
+
+  @Test
+  public void builderRendersMaze() {
+    InterfaceMaze built = new MazeBuilder(3, 4, MazeType.PERFECT, false, 15000)
+                                  .removeInsideWalls()
+                                  .renderTo(new CompactMazeRenderer(), writer)
+                                  .build();
+    assertTrue(writer.toString().startsWith("3 4\n"));
+    assertEquals(4 + 3 * 5, writer.toString().length());
+    assertEquals(12, built.getCountRooms());
+  }
+}
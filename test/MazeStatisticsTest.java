@@ -0,0 +1,138 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+
+import maze.model.Direction;
+import maze.model.FeatureType;
+import maze.model.InterfaceMaze;
+import maze.model.MazeBuilder;
+import maze.model.MazeStatistics;
+import maze.model.MazeType;
+import maze.model.PerfectMaze;
+import maze.model.WallTopology;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the statistics of a maze.
+ */
+public class MazeStatisticsTest {
+  private int randomSeed = 15000;
+  private MazeStatistics corridor;
+
+  // 1x5 corridor: rooms 0 and 4 are dead ends (caves), 1, 2 and 3 are tunnels. The wumpus is in
+  // one of the two caves, so the other one is the only start cave.
+  @Before
+  public void setUp() {
+    PerfectMaze maze = new PerfectMaze(1, 5, false);
+    for (int i = 0; i < 4; i++) {
+      maze.wallDemolish(i, i + 1);
+    }
+    Map<FeatureType, Integer> featureMap = new HashMap<>();
+    featureMap.put(FeatureType.WUMPUS, 1);
+    maze.addFeatures(featureMap, new Random(randomSeed));
+    corridor = MazeStatistics.of(maze);
+  }
+
+  @Test
+  public void countCavesAndTunnels() {
+    assertEquals(5, corridor.getCountRooms());
+    assertEquals(2, corridor.getCountCaves());
+    assertEquals(3, corridor.getCountTunnels());
+    assertEquals(2 / 3.0, corridor.getCaveTunnelRatio(), 1e-9);
+  }
+
+  @Test
+  public void degreeHistogram() {
+    assertEquals(2, corridor.getCountDeadEnds());
+    assertEquals(0, corridor.getCountRoomsWithDegree(0));
+    assertEquals(2, corridor.getCountRoomsWithDegree(1));
+    assertEquals(3, corridor.getCountRoomsWithDegree(2));
+    assertEquals(0, corridor.getCountRoomsWithDegree(4));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void degreeOutOfRange() {
+    corridor.getCountRoomsWithDegree(5);
+  }
+
+  @Test
+  public void longestTunnelChainAndDiameter() {
+    assertEquals(3, corridor.getLongestTunnelChain());
+    assertEquals(4, corridor.getDiameter());
+    assertTrue(corridor.isDiameterExact());
+  }
+
+  @Test
+  public void hazardsNearStartCaves() {
+    assertEquals(1, corridor.getCountStartCaves());
+    assertEquals(1, corridor.getCountStartCavesNearHazard());
+    assertEquals(1.0, corridor.getHazardDensityNearStartCaves(), 1e-9);
+  }
+
+  @Test
+  public void diameterOfPerfectMazeMatchesAllPairs() {
+    Map<FeatureType, Integer> featureMap = new HashMap<>();
+    featureMap.put(FeatureType.WUMPUS, 1);
+    featureMap.put(FeatureType.PIT, 10);
+    InterfaceMaze maze = new MazeBuilder(9, 11, MazeType.PERFECT, true, randomSeed)
+                                 .removeInsideWalls()
+                                 .addFeatures(featureMap)
+                                 .build();
+    MazeStatistics statistics = MazeStatistics.of(maze);
+
+    int diameter = 0;
+    for (int room = 0; room < maze.getCountRooms(); room++) {
+      diameter = Math.max(diameter, getEccentricity(maze.getWallTopology(), room));
+    }
+    assertEquals(diameter, statistics.getDiameter());
+    assertEquals(maze.getAllCaves().size(), statistics.getCountCaves());
+    assertEquals(maze.getCountRooms(), statistics.getCountRoomsWithDegree(1)
+            + statistics.getCountRoomsWithDegree(2) + statistics.getCountRoomsWithDegree(3)
+            + statistics.getCountRoomsWithDegree(4));
+  }
+
+  @Test
+  public void diameterOfImperfectMazeIsLowerBound() {
+    InterfaceMaze maze = new MazeBuilder(8, 8, MazeType.IMPERFECT, false, randomSeed)
+                                 .removeInsideWalls(15)
+                                 .build();
+    MazeStatistics statistics = MazeStatistics.of(maze);
+
+    int diameter = 0;
+    for (int room = 0; room < maze.getCountRooms(); room++) {
+      diameter = Math.max(diameter, getEccentricity(maze.getWallTopology(), room));
+    }
+    assertFalse(statistics.isDiameterExact());
+    assertTrue(statistics.getDiameter() <= diameter);
+  }
+
+  private int getEccentricity(WallTopology topology, int start) {
+    int[] distances = new int[topology.getCountRooms()];
+    Arrays.fill(distances, -1);
+    distances[start] = 0;
+    Queue<Integer> queue = new ArrayDeque<>();
+    queue.add(start);
+    int eccentricity = 0;
+    while (!queue.isEmpty()) {
+      int room = queue.remove();
+      eccentricity = Math.max(eccentricity, distances[room]);
+      for (Direction direction : Direction.values()) {
+        int next = topology.getNeighbour(room, direction);
+        if (topology.isOpen(room, direction) && distances[next] < 0) {
+          distances[next] = distances[room] + 1;
+          queue.add(next);
+        }
+      }
+    }
+    return eccentricity;
+  }
+}
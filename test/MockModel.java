@@ -150,12 +150,9 @@ public class MockModel implements InterfaceGame, IViewModel {
   }
 
   @Override
-  public Set<Integer> getRoomNumbersToUpdate() {
-    Set<Integer> toBeUpdated = new HashSet<>();
-    toBeUpdated.add(1);
-    toBeUpdated.add(2);
-    addToOutputLog(toBeUpdated.toString());
-    return toBeUpdated;
+  public int pollRoomToUpdate() {
+    addToOutputLog("-1");
+    return -1;
   }
 
   @Override
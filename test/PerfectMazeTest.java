@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
+import maze.model.FeaturePlacementException;
 import maze.model.FeatureType;
 import maze.model.InterfaceMaze;
 import maze.model.Maze;
@@ -80,7 +81,7 @@ public class PerfectMazeTest {
                                  .removeInsideWalls()
                                  .addFeatures(featureMap)
                                  .build();
-    assertEquals(7, maze.getAllWallsInMaze().size());
+    assertEquals(8, maze.getAllWallsInMaze().size());
   }
 
   @Test
@@ -149,7 +150,7 @@ public class PerfectMazeTest {
     List<Room> rooms = perfectMaze.getRooms();
     for (Room room : rooms) {
       if (room.getFeatures().get(FeatureType.BAT)) {
-        if (room.getRoomId() != 1 && room.getRoomId() != 7) {
+        if (room.getRoomId() != 1 && room.getRoomId() != 4) {
           fail("Correct rooms do not have a bat");
         }
       }
@@ -166,7 +167,7 @@ public class PerfectMazeTest {
     List<Room> rooms = perfectMaze.getRooms();
     for (Room room : rooms) {
       if (room.getFeatures().get(FeatureType.PIT)) {
-        if (room.getRoomId() != 1 && room.getRoomId() != 7) {
+        if (room.getRoomId() != 1 && room.getRoomId() != 4) {
           fail("Correct rooms do not have a pits");
         }
       }
@@ -199,10 +200,44 @@ public class PerfectMazeTest {
     assertEquals(perfectWrappingMaze.getPlayer(), new Player("Happy"));
   }
 
+  @Test
+  public void verifyDenseBatsFeature() {
+    PerfectMaze perfectMaze = new PerfectMaze(3, 4, false);
+    featureMap = new HashMap<>();
+    featureMap.put(FeatureType.WUMPUS, 1);
+    featureMap.put(FeatureType.BAT, 90);
+    perfectMaze.addFeatures(featureMap, random);
+
+    int countBats = 0;
+    for (Room room : perfectMaze.getRooms()) {
+      if (room.getFeatures().get(FeatureType.BAT)) {
+        assertFalse(room.getFeatures().get(FeatureType.WUMPUS));
+        countBats++;
+      }
+    }
+    assertEquals(11, countBats);
+  }
+
+  @Test
+  public void verifyTooManyBats() {
+    PerfectMaze perfectMaze = new PerfectMaze(3, 4, false);
+    featureMap = new HashMap<>();
+    featureMap.put(FeatureType.WUMPUS, 1);
+    featureMap.put(FeatureType.BAT, 100);
+    try {
+      perfectMaze.addFeatures(featureMap, random);
+      fail("Above statement should have thrown an exception");
+    } catch (FeaturePlacementException e) {
+      assertEquals(FeatureType.BAT, e.getFeatureType());
+      assertEquals(12, e.getCountRequested());
+      assertEquals(11, e.getCountAvailable());
+    }
+  }
+
   @Test
   public void getAllWalls() {
     perfectMaze.removeInsideWalls(random);
     Set<int[]> walls = perfectMaze.getAllWallsInMaze();
-    assertEquals(11, walls.size());
+    assertEquals(12, walls.size());
   }
 }
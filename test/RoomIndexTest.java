@@ -0,0 +1,122 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import maze.model.Cave;
+import maze.model.CaveDistanceField;
+import maze.model.FeatureType;
+import maze.model.InterfaceMaze;
+import maze.model.MazeBuilder;
+import maze.model.MazeType;
+import maze.model.MazeValidationReport;
+import maze.model.Room;
+import maze.model.RoomIndex;
+import maze.model.Tunnel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the index over the rooms of a maze.
+ */
+public class RoomIndexTest {
+  private List<Room> rooms;
+  private RoomIndex roomIndex;
+
+  @Before
+  public void setUp() {
+    rooms = new ArrayList<>();
+    rooms.add(new Cave(0, "C0"));
+    rooms.add(new Tunnel(1));
+    rooms.add(new Cave(2, "C1"));
+    rooms.add(new Tunnel(3));
+    rooms.add(new Cave(4, "C2"));
+    roomIndex = new RoomIndex(rooms);
+  }
+
+  @Test
+  public void lookUpRooms() {
+    assertSame(rooms.get(3), roomIndex.getRoom(3));
+    assertEquals(5, roomIndex.getCountRooms());
+    assertEquals(3, roomIndex.getCaves().size());
+    assertSame(rooms.get(4), roomIndex.getCaves().get(2));
+    assertEquals(1, roomIndex.getCaveNumber(2));
+    assertEquals(-1, roomIndex.getCaveNumber(1));
+  }
+
+  @Test
+  public void featureIndex() {
+    roomIndex.addFeature(2, FeatureType.PIT);
+    roomIndex.addFeature(0, FeatureType.PIT);
+    roomIndex.addFeature(1, FeatureType.WUMPUS);
+
+    assertTrue(rooms.get(4).getFeatures().get(FeatureType.PIT));
+    assertTrue(roomIndex.hasFeature(0, FeatureType.PIT));
+    assertFalse(roomIndex.hasFeature(1, FeatureType.PIT));
+    assertFalse(roomIndex.hasFeature(1, FeatureType.BAT));
+    assertEquals(2, roomIndex.getCountCavesWithFeature(FeatureType.PIT));
+    assertEquals(0, roomIndex.getCountCavesWithFeature(FeatureType.BAT));
+
+    List<Room> pits = roomIndex.getCavesWithFeature(FeatureType.PIT);
+    assertEquals(2, pits.size());
+    assertSame(rooms.get(0), pits.get(0));
+    assertSame(rooms.get(4), pits.get(1));
+  }
+
+  @Test
+  public void removedFeatureLeavesIndex() {
+    roomIndex.addFeature(0, FeatureType.PIT);
+    roomIndex.addFeature(2, FeatureType.PIT);
+    roomIndex.removeFeature(0, FeatureType.PIT);
+    assertFalse(rooms.get(0).hasFeature(FeatureType.PIT));
+    assertEquals(1, roomIndex.getCountCavesWithFeature(FeatureType.PIT));
+    assertSame(rooms.get(4), roomIndex.getCavesWithFeature(FeatureType.PIT).get(0));
+  }
+
+  @Test
+  public void featuresChangedOnRoomsOfMaze() {
+    Map<FeatureType, Integer> featureMap = new HashMap<>();
+    featureMap.put(FeatureType.WUMPUS, 1);
+    featureMap.put(FeatureType.PIT, 10);
+    InterfaceMaze maze = new MazeBuilder(6, 6, MazeType.IMPERFECT, true, 15000)
+                                 .removeInsideWalls(20)
+                                 .addFeatures(featureMap)
+                                 .build();
+    //only the caves themselves can change their features, rooms of the maze are read-only
+    Cave wumpusCave = (Cave) maze.getCavesWithFeature(FeatureType.WUMPUS).get(0);
+    wumpusCave.removeFeature(FeatureType.WUMPUS);
+    assertTrue(maze.getCavesWithFeature(FeatureType.WUMPUS).isEmpty());
+    assertEquals(CaveDistanceField.UNREACHABLE, maze.getCaveDistances()
+            .getDistanceToFeature(FeatureType.WUMPUS, wumpusCave.getRoomId()));
+    MazeValidationReport report = maze.validate();
+    assertEquals(0, report.getCountCavesWithFeature(FeatureType.WUMPUS));
+    assertEquals("[Feature not added correctly -- WUMPUS, expected 1 caves but found 0]",
+            report.getProblems().toString());
+
+    wumpusCave.addNewFeature(FeatureType.WUMPUS);
+    assertSame(wumpusCave, maze.getCavesWithFeature(FeatureType.WUMPUS).get(0));
+    assertTrue(maze.validate().isValid());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void roomNotFound() {
+    roomIndex.getRoom(5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void roomsOutOfOrder() {
+    rooms.add(new Cave(7, "C3"));
+    new RoomIndex(rooms);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void cavesAreReadOnly() {
+    roomIndex.getCaves().clear();
+  }
+}
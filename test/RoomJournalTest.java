@@ -0,0 +1,155 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import maze.model.Direction;
+import maze.model.FeatureType;
+import maze.model.GameWumpus;
+import maze.model.InterfaceMaze;
+import maze.model.InterfacePlayer;
+import maze.model.MazeBuilder;
+import maze.model.MazeType;
+import maze.model.Player;
+import maze.model.RoomJournal;
+import maze.model.ThemeName;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the journal of the rooms to be updated on the maze view.
+ */
+public class RoomJournalTest {
+  private int randomSeed = 15000;
+  private RoomJournal journal;
+
+  @Before
+  public void setUp() {
+    journal = new RoomJournal(100);
+  }
+
+  @Test
+  public void roomsComeOutInOrder() {
+    assertTrue(journal.isEmpty());
+    assertEquals(RoomJournal.EMPTY, journal.poll());
+    journal.add(7);
+    journal.add(3);
+    journal.add(42);
+    assertEquals(3, journal.size());
+    assertEquals(7, journal.poll());
+    assertEquals(3, journal.poll());
+    assertEquals(42, journal.poll());
+    assertEquals(RoomJournal.EMPTY, journal.poll());
+  }
+
+  @Test
+  public void waitingRoomIsAddedOnce() {
+    assertTrue(journal.add(5));
+    assertFalse(journal.add(5));
+    assertEquals(1, journal.size());
+    assertEquals(5, journal.poll());
+    assertFalse(journal.contains(5));
+    assertTrue(journal.add(5));
+  }
+
+  @Test
+  public void ringWrapsAndGrows() {
+    for (int round = 0; round < 3; round++) {
+      for (int room = 0; room < 100; room++) {
+        journal.add((room * 37 + round) % 100);
+      }
+      assertEquals(100, journal.size());
+      for (int room = 0; room < 50; room++) {
+        assertEquals((room * 37 + round) % 100, journal.poll());
+      }
+      journal.clear();
+      assertTrue(journal.isEmpty());
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void visitedTunnelsAreReadOnly() {
+    createGame(createMaze()).getVisitedTunnelsRoomNumbers().add(3);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void roomOutsideMaze() {
+    journal.add(100);
+  }
+
+  @Test
+  public void moveJournalsChangedRooms() {
+    InterfaceMaze maze = createMaze();
+    GameWumpus game = createGame(maze);
+    assertEquals(-1, game.pollRoomToUpdate());
+
+    int start = game.getPlayerById(1).getRoom().getRoomId();
+    Direction direction = game.getValidMoveForPlayer(1).get(0);
+    game.movePlayer(direction, new Random(randomSeed));
+    int next = game.getPlayerById(1).getRoom().getRoomId();
+
+    Set<Integer> expected = new HashSet<>();
+    expected.add(start);
+    expected.add(next);
+    for (int tunnelId : maze.getCorridorGraph().getTunnelIds(start, direction)) {
+      expected.add(tunnelId);
+    }
+    Set<Integer> updated = new HashSet<>();
+    for (int room = game.pollRoomToUpdate(); room >= 0; room = game.pollRoomToUpdate()) {
+      assertTrue(updated.add(room));
+    }
+    assertEquals(expected, updated);
+    expected.remove(start);
+    expected.remove(next);
+    assertEquals(expected, game.getVisitedTunnelsRoomNumbers());
+    assertSame(game.getVisitedTunnelsRoomNumbers(), game.getVisitedTunnelsRoomNumbers());
+  }
+
+  @Test
+  public void roomIconPathsAreBuiltOnce() {
+    InterfaceMaze maze = createMaze();
+    GameWumpus game = createGame(maze);
+    int start = game.getPlayerById(1).getRoom().getRoomId();
+    StringBuilder doors = new StringBuilder();
+    for (Direction direction : new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.EAST,
+        Direction.WEST}) {
+      if (maze.getWallTopology().isOpen(start, direction)) {
+        doors.append(direction.toString().charAt(0));
+      }
+    }
+    String iconPath = game.getImagePathForRoom(start);
+    assertEquals("res/icons/hunt_the_wumpus/" + doors + ".png", iconPath);
+    assertSame(iconPath, game.getImagePathForRoom(start));
+
+    for (int room = 0; room < maze.getCountRooms(); room++) {
+      if (!game.isVisited(room)) {
+        assertEquals("res/icons/hunt_the_wumpus/black.png", game.getImagePathForRoom(room));
+        break;
+      }
+    }
+  }
+
+  private InterfaceMaze createMaze() {
+    Map<FeatureType, Integer> featureMap = new HashMap<>();
+    featureMap.put(FeatureType.WUMPUS, 1);
+    return new MazeBuilder(6, 6, MazeType.IMPERFECT, true, randomSeed)
+                   .removeInsideWalls(20)
+                   .addFeatures(featureMap)
+                   .build();
+  }
+
+  private GameWumpus createGame(InterfaceMaze maze) {
+    List<InterfacePlayer> players = new ArrayList<>();
+    players.add(new Player("player1"));
+    return new GameWumpus(maze, players, ThemeName.HUNT_THE_WUMPUS, randomSeed);
+  }
+}
@@ -0,0 +1,77 @@
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import maze.model.Direction;
+import maze.model.EllersGenerator;
+import maze.model.MazeRowWriter;
+import maze.model.StreamingEllersGenerator;
+import maze.model.UnionFind;
+import maze.model.WallTopology;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the row streaming maze generator.
+ */
+public class StreamingEllersGeneratorTest {
+  private int randomSeed = 15000;
+
+  @Test
+  public void streamedRowsMatchTopology() throws IOException {
+    WallTopology topology = new WallTopology(6, 7);
+    new EllersGenerator().generate(topology, true, new Random(randomSeed));
+
+    new StreamingEllersGenerator(6, 7, true).generate(new Random(randomSeed),
+        (rowNumber, openings) -> {
+          for (int c = 0; c < 7; c++) {
+            for (Direction direction : Direction.values()) {
+              boolean open = (openings[c] & (1 << direction.ordinal())) != 0;
+              assertEquals(topology.isOpen(rowNumber * 7 + c, direction), open);
+            }
+          }
+        });
+  }
+
+  @Test
+  public void rowsHaveSpanningTreeDoors() throws IOException {
+    int[] countDoors = new int[1];
+    int[] countRows = new int[1];
+    //the rooms joined by the east and south doors, which must never close a cycle
+    UnionFind rooms = new UnionFind(2000 * 5);
+    new StreamingEllersGenerator(2000, 5, false).generate(new Random(randomSeed),
+        (rowNumber, openings) -> {
+          assertEquals(countRows[0], rowNumber);
+          countRows[0]++;
+          for (int c = 0; c < 5; c++) {
+            byte opening = openings[c];
+            assertTrue(opening != 0);
+            countDoors[0] += Integer.bitCount(opening);
+            int room = rowNumber * 5 + c;
+            if ((opening & Direction.EAST.getBit()) != 0) {
+              assertTrue(rooms.union(room, rowNumber * 5 + (c + 1) % 5));
+            }
+            if ((opening & Direction.SOUTH.getBit()) != 0) {
+              assertTrue(rooms.union(room, room + 5));
+            }
+          }
+        });
+    assertEquals(2000, countRows[0]);
+    assertEquals(2 * (2000 * 5 - 1), countDoors[0]);
+    assertEquals(1, rooms.getCountSets());
+  }
+
+  @Test
+  public void writesPackedRows() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MazeRowWriter writer = new MazeRowWriter(out, 5);
+    new StreamingEllersGenerator(10, 5, false).generate(new Random(randomSeed), writer);
+    writer.close();
+
+    assertEquals(10, writer.getCountRows());
+    assertEquals(10 * 3, out.size());
+  }
+}
@@ -0,0 +1,90 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import maze.model.Direction;
+import maze.model.ImperfectMaze;
+import maze.model.WallRemover;
+import maze.model.WallTopology;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for removing random walls from a maze.
+ */
+public class WallRemoverTest {
+  private WallTopology topology;
+  private Random random;
+
+  @Before
+  public void setUp() {
+    topology = new WallTopology(3, 4);
+    random = new Random(15000);
+  }
+
+  @Test
+  public void countStandingWalls() {
+    assertEquals(17, WallRemover.insideWalls(topology).getCountWalls());
+    assertEquals(7, WallRemover.wrappingWalls(topology).getCountWalls());
+
+    topology.open(0, 1);
+    topology.open(0, 3);
+    assertEquals(16, WallRemover.insideWalls(topology).getCountWalls());
+    assertEquals(6, WallRemover.wrappingWalls(topology).getCountWalls());
+  }
+
+  @Test
+  public void removeInsideWalls() {
+    WallRemover remover = WallRemover.insideWalls(topology);
+    remover.removeRandomWalls(5, random);
+    assertEquals(12, remover.getCountWalls());
+    assertEquals(12, WallRemover.insideWalls(topology).getCountWalls());
+    assertEquals(7, WallRemover.wrappingWalls(topology).getCountWalls());
+
+    remover.removeRandomWalls(12, random);
+    assertEquals(0, WallRemover.insideWalls(topology).getCountWalls());
+  }
+
+  @Test
+  public void removeAllWrappingWalls() {
+    WallRemover.wrappingWalls(topology).removeRandomWalls(7, random);
+    for (int row = 0; row < 3; row++) {
+      assertTrue(topology.isOpen(row * 4, Direction.WEST));
+    }
+    for (int col = 0; col < 4; col++) {
+      assertTrue(topology.isOpen(col, Direction.NORTH));
+    }
+    assertEquals(17, WallRemover.insideWalls(topology).getCountWalls());
+  }
+
+  @Test
+  public void narrowGridHasNoWrappingWallsAcrossRows() {
+    assertEquals(2, WallRemover.wrappingWalls(new WallTopology(3, 2)).getCountWalls());
+    assertEquals(0, WallRemover.wrappingWalls(new WallTopology(2, 1)).getCountWalls());
+  }
+
+  @Test
+  public void removalIsReproducible() {
+    WallTopology other = new WallTopology(3, 4);
+    WallRemover.insideWalls(topology).removeRandomWalls(6, new Random(15000));
+    WallRemover.insideWalls(other).removeRandomWalls(6, new Random(15000));
+    for (int room = 0; room < topology.getCountRooms(); room++) {
+      for (Direction direction : Direction.values()) {
+        assertEquals(topology.isOpen(room, direction), other.isOpen(room, direction));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void tooManyWrappingWalls() {
+    ImperfectMaze maze = new ImperfectMaze(3, 4, true);
+    maze.removeWrappingWalls(random, 8);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void tooManyInsideWalls() {
+    WallRemover.insideWalls(topology).removeRandomWalls(18, random);
+  }
+}
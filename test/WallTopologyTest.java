@@ -0,0 +1,68 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import maze.model.Direction;
+import maze.model.WallTopology;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the wall topology of a maze.
+ */
+public class WallTopologyTest {
+  private WallTopology topology;
+
+  @Before
+  public void setUp() {
+    topology = new WallTopology(3, 4);
+  }
+
+  @Test
+  public void openInsideWall() {
+    topology.open(1, 2);
+    assertTrue(topology.isOpen(1, Direction.EAST));
+    assertTrue(topology.isOpen(2, Direction.WEST));
+    assertTrue(topology.isOpen(2, 1));
+    assertFalse(topology.isOpen(1, Direction.SOUTH));
+    assertEquals(1, topology.getCountDoors(1));
+  }
+
+  @Test
+  public void openWrappingWalls() {
+    topology.open(4, 7);
+    assertTrue(topology.isOpen(4, Direction.WEST));
+    assertTrue(topology.isOpen(7, Direction.EAST));
+
+    topology.open(1, 9);
+    assertTrue(topology.isOpen(1, Direction.NORTH));
+    assertTrue(topology.isOpen(9, Direction.SOUTH));
+  }
+
+  @Test
+  public void neighbours() {
+    assertEquals(1, topology.getNeighbour(0, Direction.EAST));
+    assertEquals(3, topology.getNeighbour(0, Direction.WEST));
+    assertEquals(8, topology.getNeighbour(0, Direction.NORTH));
+    assertEquals(4, topology.getNeighbour(0, Direction.SOUTH));
+    assertEquals(8, topology.getNeighbour(11, Direction.EAST));
+    assertEquals(3, topology.getNeighbour(11, Direction.SOUTH));
+  }
+
+  @Test
+  public void adjacencyMatrix() {
+    topology.open(5, 6);
+    topology.open(5, 9);
+    int[][] matrix = topology.toAdjacencyMatrix();
+    assertEquals(1, matrix[5][6]);
+    assertEquals(1, matrix[6][5]);
+    assertEquals(1, matrix[9][5]);
+    assertEquals(0, matrix[5][4]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void openNonNeighbours() {
+    topology.open(0, 5);
+  }
+}